@@ -0,0 +1,77 @@
+package com.fastcampus.minischeduler.benchmark;
+
+import com.fastcampus.minischeduler.core.auth.jwt.JwtTokenProvider;
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * 벤치마크용 객체를 스프링 컨텍스트 없이 만듭니다.
+ * @Value 로 주입되는 필드는 리플렉션으로 채우고, 리포지토리는 정해진 메서드만 응답하는 프록시로 대신합니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String AES_KEY = "abcdefghijklmnopqrstuvwxyz012345"; // 32byte
+    public static final String AES_IV = "0123456789abcdef"; // 16byte
+    public static final String AES_ALG = "AES/CBC/PKCS5Padding";
+    public static final String JWT_SECRET = "benchmark-secret";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static AES256Utils aes256Utils() {
+
+        AES256Utils aes256Utils = new AES256Utils();
+        set(aes256Utils, "key", AES_KEY);
+        set(aes256Utils, "iv", AES_IV);
+        aes256Utils.setAlg(AES_ALG);
+        aes256Utils.init();
+
+        return aes256Utils;
+    }
+
+    public static UserIdentityCache userIdentityCache(AES256Utils aes256Utils, int maxSize) {
+
+        UserIdentityCache userIdentityCache = new UserIdentityCache(aes256Utils);
+        set(userIdentityCache, "maxSize", maxSize);
+        userIdentityCache.init();
+
+        return userIdentityCache;
+    }
+
+    public static JwtTokenProvider jwtTokenProvider(int claimsCacheSize) {
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        jwtTokenProvider.setSECRET(JWT_SECRET);
+        set(jwtTokenProvider, "claimsCacheSize", claimsCacheSize);
+        jwtTokenProvider.init();
+
+        return jwtTokenProvider;
+    }
+
+    /**
+     * answers 에 있는 메서드 이름만 응답하는 리포지토리 프록시를 만듭니다.
+     * @param answers : 메서드 이름 -> 반환값
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Object> answers) {
+
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (answers.containsKey(method.getName())) return answers.get(method.getName());
+            if (method.getDeclaringClass() == Object.class) return method.invoke(answers, args);
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    public static void set(Object target, String fieldName, Object value) {
+
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) throw new IllegalArgumentException(fieldName);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.minischeduler.core.auth.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fastcampus.minischeduler.benchmark.BenchmarkFixtures;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급과 검증을 측정합니다.
+ * verifyCached 는 같은 토큰을 반복 검증(캐시 적중)하고, verifyUncached 는 캐시 크기 1 에서 두 토큰을 번갈아 검증해
+ * 매번 HMAC 서명 검증을 거칩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private User user;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+
+        cachedProvider = BenchmarkFixtures.jwtTokenProvider(10000);
+        uncachedProvider = BenchmarkFixtures.jwtTokenProvider(1);
+
+        user = User.builder()
+                .id(1L)
+                .email("encrypted-email")
+                .fullName("encrypted-full-name")
+                .role(Role.USER)
+                .profileImage("https://bucket.s3.ap-northeast-2.amazonaws.com/original/profile.jpg")
+                .build();
+        tokens = new String[]{
+                withoutPrefix(cachedProvider.create(user)),
+                withoutPrefix(cachedProvider.create(User.builder().id(2L).email("e").fullName("n").role(Role.ADMIN).build()))
+        };
+    }
+
+    @Benchmark
+    public String create() {
+        return cachedProvider.create(user);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyCached() {
+        return cachedProvider.verify(tokens[0]);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyUncached() {
+        next ^= 1;
+        return uncachedProvider.verify(tokens[next]);
+    }
+
+    private static String withoutPrefix(String token) {
+        return token.substring(JwtTokenProvider.TOKEN_PREFIX.length());
+    }
+}
@@ -0,0 +1,114 @@
+package com.fastcampus.minischeduler.core.utils;
+
+import com.fastcampus.minischeduler.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름/이메일 한 건의 암호화/복호화와 목록 복호화(decryptAll)를 측정합니다.
+ * legacy* 는 이전 구현(호출마다 Cipher.getInstance + init, 목록은 한 건씩 순차 복호화)을 그대로 옮긴 기준값입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AES256UtilsBenchmark {
+
+    private static final String PLAIN_TEXT = "fastcampus@fastcampus.com";
+
+    private AES256Utils aes256Utils;
+    private String cipherText;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        aes256Utils = BenchmarkFixtures.aes256Utils();
+        cipherText = aes256Utils.encryptAES256(PLAIN_TEXT);
+    }
+
+    /**
+     * decryptAll 에 넘길 암호문 목록, size 건
+     */
+    @State(Scope.Benchmark)
+    public static class CipherTexts {
+
+        @Param({"10", "1000", "100000"})
+        private int size;
+
+        private List<String> values;
+
+        @Setup
+        public void setUp() throws GeneralSecurityException {
+
+            AES256Utils aes256Utils = BenchmarkFixtures.aes256Utils();
+            values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) values.add(aes256Utils.encryptAES256("user" + i + "@fastcampus.com"));
+        }
+    }
+
+    @Benchmark
+    public String encrypt() throws GeneralSecurityException {
+        return aes256Utils.encryptAES256(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String decrypt() throws GeneralSecurityException {
+        return aes256Utils.decryptAES256(cipherText);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> decryptAll(CipherTexts cipherTexts) throws GeneralSecurityException {
+        return aes256Utils.decryptAll(cipherTexts.values);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws GeneralSecurityException {
+        return legacyEncryptAES256(PLAIN_TEXT);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws GeneralSecurityException {
+        return legacyDecryptAES256(cipherText);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> legacyDecryptAll(CipherTexts cipherTexts) throws GeneralSecurityException {
+        List<String> plainTexts = new ArrayList<>(cipherTexts.values.size());
+        for (String value : cipherTexts.values) plainTexts.add(legacyDecryptAES256(value));
+        return plainTexts;
+    }
+
+    // 이전 AES256Utils.encryptAES256
+    private static String legacyEncryptAES256(String text) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(BenchmarkFixtures.AES_ALG);
+        SecretKeySpec keySpec = new SecretKeySpec(BenchmarkFixtures.AES_KEY.getBytes(), "AES");
+        IvParameterSpec ivParamSpec = new IvParameterSpec(BenchmarkFixtures.AES_IV.getBytes());
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivParamSpec);
+
+        byte[] encrypted = cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getEncoder().encodeToString(encrypted);
+    }
+
+    // 이전 AES256Utils.decryptAES256
+    private static String legacyDecryptAES256(String cipherText) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(BenchmarkFixtures.AES_ALG);
+        SecretKeySpec keySpec = new SecretKeySpec(BenchmarkFixtures.AES_KEY.getBytes(), "AES");
+        IvParameterSpec ivParamSpec = new IvParameterSpec(BenchmarkFixtures.AES_IV.getBytes());
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivParamSpec);
+
+        byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
+        byte[] decrypted = cipher.doFinal(decodedBytes);
+
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,122 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별 조회에서 [이번 달 시작, 다음 달 시작) 과 겹치는 일정 id 를 찾는 비용을 측정합니다.
+ * SchedulerAdminService 가 사용하는 ScheduleIntervalIndex 와, 전체 일정을 훑는 방식을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleMonthFilterBenchmark {
+
+    private static final int AGENCY_COUNT = 100;
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final int DAYS = 730; // 일정이 퍼져 있는 기간
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<ScheduleIntervalIndex.Interval> intervals;
+    private ScheduleIntervalIndex scheduleIntervalIndex;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(42);
+        intervals = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            LocalDateTime start = FIRST_START.plusDays(random.nextInt(DAYS)).plusHours(random.nextInt(24));
+            LocalDateTime end = id % 50 == 0 ? null : start.plusDays(random.nextInt(3)).plusHours(2); // 종료일 없는 일정도 섞음
+            intervals.add(new SimpleInterval(id, 1L + random.nextInt(AGENCY_COUNT), start, end));
+        }
+
+        scheduleIntervalIndex = new ScheduleIntervalIndex(BenchmarkFixtures.repository(
+                SchedulerAdminRepository.class,
+                Map.of("findAllIntervals", intervals)
+        ), null); // Redis 는 변경 알림을 보낼 때만 쓰므로 조회 측정에는 필요 없음
+        scheduleIntervalIndex.rebuild();
+
+        YearMonth yearMonth = YearMonth.of(2023, 12);
+        from = yearMonth.atDay(1).atStartOfDay();
+        to = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        // 두 방식이 같은 일정을 고르는지 먼저 확인 (인덱스는 (시작일, id) 순이므로 집합으로 비교)
+        List<Long> indexed = intervalIndex();
+        List<Long> scanned = linearScan();
+        if (indexed.size() != scanned.size() || !new HashSet<>(indexed).equals(new HashSet<>(scanned)))
+            throw new IllegalStateException("interval index and linear scan differ : " + indexed.size() + " / " + scanned.size());
+    }
+
+    @Benchmark
+    public List<Long> intervalIndex() {
+        return scheduleIntervalIndex.findOverlapping(from, to);
+    }
+
+    /**
+     * ScheduleIntervalIndex 와 같은 조건 : 종료일이 없거나 시작일보다 이르면 시작일로 보고,
+     * 시작일이 [from, to) 안에 있거나 from 이전에 시작해 from 이후에 끝나는 일정
+     */
+    @Benchmark
+    public List<Long> linearScan() {
+
+        List<Long> ids = new ArrayList<>();
+        for (ScheduleIntervalIndex.Interval interval : intervals) {
+            LocalDateTime start = interval.getScheduleStart();
+            LocalDateTime end = interval.getScheduleEnd() == null || interval.getScheduleEnd().isBefore(start)
+                    ? start
+                    : interval.getScheduleEnd();
+            if (start.isBefore(to) && (!start.isBefore(from) || end.isAfter(from)))
+                ids.add(interval.getId());
+        }
+        return ids;
+    }
+
+    private static final class SimpleInterval implements ScheduleIntervalIndex.Interval {
+
+        private final Long id;
+        private final Long userId;
+        private final LocalDateTime scheduleStart;
+        private final LocalDateTime scheduleEnd;
+
+        private SimpleInterval(Long id, Long userId, LocalDateTime scheduleStart, LocalDateTime scheduleEnd) {
+            this.id = id;
+            this.userId = userId;
+            this.scheduleStart = scheduleStart;
+            this.scheduleEnd = scheduleEnd;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public LocalDateTime getScheduleStart() {
+            return scheduleStart;
+        }
+
+        @Override
+        public LocalDateTime getScheduleEnd() {
+            return scheduleEnd;
+        }
+    }
+}
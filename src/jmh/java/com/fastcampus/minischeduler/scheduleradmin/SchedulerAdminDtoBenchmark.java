@@ -0,0 +1,91 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.benchmark.BenchmarkFixtures;
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.SchedulerAdminResponseDto;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchedulerAdminService.getSchedulerList 의 SchedulerAdminResponseDto 조립 비용을 측정합니다. DB 조회는 제외합니다.
+ * warm 은 기획사 이름/이메일이 이미 복호화 캐시에 있는 평상시, cold 는 기동 직후처럼 캐시가 빈 상태입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulerAdminDtoBenchmark {
+
+    private static final int AGENCY_COUNT = 100;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private UserIdentityCache userIdentityCache;
+    private SchedulerAdminService schedulerAdminService;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+
+        AES256Utils aes256Utils = BenchmarkFixtures.aes256Utils();
+        userIdentityCache = BenchmarkFixtures.userIdentityCache(aes256Utils, 10000);
+
+        List<User> agencies = new ArrayList<>(AGENCY_COUNT);
+        for (long id = 1; id <= AGENCY_COUNT; id++) {
+            agencies.add(User.builder()
+                    .id(id)
+                    .email(aes256Utils.encryptAES256("agency" + id + "@fastcampus.com"))
+                    .fullName(aes256Utils.encryptAES256("기획사" + id))
+                    .role(Role.ADMIN)
+                    .sizeOfTicket(0)
+                    .profileImage("https://bucket.s3.ap-northeast-2.amazonaws.com/original/agency" + id + ".jpg")
+                    .build());
+        }
+
+        LocalDateTime start = LocalDateTime.of(2023, 8, 1, 19, 0);
+        List<SchedulerAdmin> schedulers = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            schedulers.add(SchedulerAdmin.builder()
+                    .id(id)
+                    .user(agencies.get((int) (id % AGENCY_COUNT)))
+                    .scheduleStart(start.plusHours(id))
+                    .scheduleEnd(start.plusHours(id + 2))
+                    .title("공연" + id)
+                    .description("description")
+                    .image("https://bucket.s3.ap-northeast-2.amazonaws.com/original/schedule" + id + ".jpg")
+                    .build());
+        }
+
+        SchedulerAdminRepository schedulerAdminRepository = BenchmarkFixtures.repository(
+                SchedulerAdminRepository.class,
+                Map.of("findAllWithUser", schedulers)
+        );
+        // getSchedulerList 가 사용하지 않는 의존성은 null
+        schedulerAdminService = new SchedulerAdminService(
+                null, null, null,
+                schedulerAdminRepository,
+                null, null, null, null, null,
+                aes256Utils,
+                userIdentityCache
+        );
+    }
+
+    @Benchmark
+    public List<SchedulerAdminResponseDto> warm() throws GeneralSecurityException {
+        return schedulerAdminService.getSchedulerList();
+    }
+
+    @Benchmark
+    public List<SchedulerAdminResponseDto> cold() throws GeneralSecurityException {
+        userIdentityCache.init();
+        return schedulerAdminService.getSchedulerList();
+    }
+}
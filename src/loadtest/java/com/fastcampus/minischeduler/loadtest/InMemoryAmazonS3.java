@@ -0,0 +1,63 @@
+package com.fastcampus.minischeduler.loadtest;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트용 메모리 S3 입니다. ImageService/ImageProcessor 가 사용하는 호출만 구현하며,
+ * 나머지 호출은 AbstractAmazonS3 가 UnsupportedOperationException 을 던집니다.
+ */
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>(); // "bucket/key" -> 내용
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+
+        try (InputStream inputStream = putObjectRequest.getInputStream()) {
+            objects.put(putObjectRequest.getBucketName() + "/" + putObjectRequest.getKey(), inputStream.readAllBytes());
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public CopyObjectResult copyObject(CopyObjectRequest copyObjectRequest) {
+
+        byte[] source = objects.get(copyObjectRequest.getSourceBucketName() + "/" + copyObjectRequest.getSourceKey());
+        if (source != null)
+            objects.put(copyObjectRequest.getDestinationBucketName() + "/" + copyObjectRequest.getDestinationKey(), source);
+        return new CopyObjectResult();
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        objects.remove(deleteObjectRequest.getBucketName() + "/" + deleteObjectRequest.getKey());
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + key);
+        } catch (MalformedURLException mue) {
+            throw new IllegalArgumentException(mue);
+        }
+    }
+
+    public int size() {
+        return objects.size();
+    }
+}
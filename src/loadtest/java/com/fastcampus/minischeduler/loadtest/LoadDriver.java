@@ -0,0 +1,245 @@
+package com.fastcampus.minischeduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.fastcampus.minischeduler.loadtest.LoadSeed.*;
+
+/**
+ * load 프로필로 띄운 서버에 시나리오별로 동시 요청을 보내고 처리량과 지연 시간 분포를 출력합니다.
+ * 시나리오마다 워밍업 후 측정하며, 지연 시간 분포는 HdrHistogram 형식(.hgrm)으로도 저장합니다.
+ *
+ * 설정 (-D 시스템 프로퍼티, ./gradlew loadTest -Pload.concurrency=32 처럼 넘김)
+ * load.baseUrl        : 서버 주소 (http://localhost:5000)
+ * load.scenarios      : scheduleAll,createSchedule,login,excelDownload 중 실행할 시나리오
+ * load.concurrency    : 동시 요청 수 (16)
+ * load.warmupSeconds  : 시나리오별 워밍업 시간 (5)
+ * load.durationSeconds: 시나리오별 측정 시간 (30)
+ * load.fanSessions    : 로그인해 둘 팬 수, createSchedule 은 팬마다 BOOKING_YEAR 의 달을 하나씩 신청 (200)
+ * load.agencies/fans  : 서버의 시드 규모 (LoadSeed 기본값)
+ * load.reportDir      : .hgrm 저장 위치 (build/reports/loadtest)
+ */
+public class LoadDriver {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String baseUrl = System.getProperty("load.baseUrl", "http://localhost:5000");
+    private final int concurrency = Integer.getInteger("load.concurrency", 16);
+    private final int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+    private final int agencies = Integer.getInteger("load.agencies", DEFAULT_AGENCIES);
+    private final int fans = Integer.getInteger("load.fans", DEFAULT_FANS);
+    private final int fanSessions = Math.min(fans, Integer.getInteger("load.fanSessions", 200));
+    private final Path reportDir = Path.of(System.getProperty("load.reportDir", "build/reports/loadtest"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    private final List<String> agencyTokens = new ArrayList<>();
+    private final List<String> fanTokens = new ArrayList<>();
+    private final Map<Integer, List<Long>> bookingYearEvents = new HashMap<>(); // month -> 행사 id
+    private final AtomicLong sequence = new AtomicLong(); // 시나리오 안에서 요청마다 증가
+
+    public static void main(String[] args) throws Exception {
+
+        LoadDriver driver = new LoadDriver();
+        List<String> scenarios = Arrays.asList(
+                System.getProperty("load.scenarios", "scheduleAll,createSchedule,login,excelDownload").split(",")
+        );
+        driver.prepare();
+        for (String scenario : scenarios) driver.run(scenario.trim());
+        System.exit(0);
+    }
+
+    /**
+     * 기획사/팬 토큰을 발급받고, 신청에 사용할 BOOKING_YEAR 행사 id 를 달별로 모읍니다.
+     */
+    private void prepare() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            agencyTokens.addAll(loginAll(executor, agencies, LoadSeed::agencyEmail));
+            fanTokens.addAll(loginAll(executor, fanSessions, LoadSeed::fanEmail));
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int month = 1; month <= 12; month++) {
+            HttpResponse<String> response = send(get("/admin/scheduleAll?year=" + BOOKING_YEAR + "&month=" + month, agencyTokens.get(0)));
+            List<Long> ids = new ArrayList<>();
+            for (JsonNode schedule : OBJECT_MAPPER.readTree(response.body())) {
+                // 여러 달에 걸친 일정은 시작한 달에만 신청 (booking_month = 시작 연월)
+                if (schedule.get("scheduleStart").asText().startsWith(String.format("%d-%02d", BOOKING_YEAR, month)))
+                    ids.add(schedule.get("id").asLong());
+            }
+            bookingYearEvents.put(month, ids);
+        }
+        System.out.printf("준비 완료 : 기획사 토큰 %d, 팬 토큰 %d%n", agencyTokens.size(), fanTokens.size());
+    }
+
+    private List<String> loginAll(ExecutorService executor, int count, java.util.function.IntFunction<String> email) throws Exception {
+
+        List<Future<String>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                HttpResponse<String> response = send(login(email.apply(index)));
+                if (response.statusCode() != 200)
+                    throw new IllegalStateException("로그인 실패 : " + email.apply(index) + " " + response.statusCode());
+                return response.headers().firstValue("Authorization").orElseThrow();
+            }));
+        }
+        List<String> tokens = new ArrayList<>(count);
+        for (Future<String> future : futures) tokens.add(future.get());
+        return tokens;
+    }
+
+    private void run(String scenario) throws Exception {
+
+        Callable<HttpRequest> requests = requestsOf(scenario);
+        runFor(requests, warmupSeconds, new Recorder(MAX_LATENCY_NANOS, 3), new AtomicLongArray(6));
+
+        Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+        AtomicLongArray statusCounts = new AtomicLongArray(6); // 0 : 연결 실패, 1~5 : 1xx~5xx
+        long startedAt = System.nanoTime();
+        runFor(requests, durationSeconds, recorder, statusCounts);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        report(scenario, recorder.getIntervalHistogram(), statusCounts, elapsedSeconds);
+    }
+
+    private Callable<HttpRequest> requestsOf(String scenario) {
+
+        sequence.set(0);
+        switch (scenario) {
+            case "scheduleAll": // 기획사 메인 : 달별 전체 일정
+                return () -> {
+                    long n = sequence.getAndIncrement();
+                    int month = (int) (n % 12) + 1;
+                    return get("/admin/scheduleAll?year=" + SEED_YEAR + "&month=" + month, agencyTokens.get((int) (n % agencyTokens.size())));
+                };
+            case "createSchedule": // 팬 신청 : (팬, 달) 조합마다 한 번, 모두 쓰면 403 이 응답됨
+                return () -> {
+                    long n = sequence.getAndIncrement();
+                    int fan = (int) (n % fanTokens.size());
+                    int month = (int) (n / fanTokens.size() % 12) + 1;
+                    List<Long> events = bookingYearEvents.get(month);
+                    long eventId = events.get((int) (n % events.size()));
+                    String body = String.format("{\"scheduleStart\":\"%d-%02d-15T19:00:00\"}", BOOKING_YEAR, month);
+                    return HttpRequest.newBuilder(URI.create(baseUrl + "/user/schedule/create?schedulerAdminId=" + eventId))
+                            .header("Authorization", fanTokens.get(fan))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                };
+            case "login": // BCrypt 검증 + 토큰 발급
+                return () -> login(fanEmail((int) (sequence.getAndIncrement() % fans)));
+            case "excelDownload": // 기획사 티켓 현황 엑셀
+                return () -> get("/admin/schedule/excelDownload", agencyTokens.get((int) (sequence.getAndIncrement() % agencyTokens.size())));
+            default:
+                throw new IllegalArgumentException("알 수 없는 시나리오 : " + scenario);
+        }
+    }
+
+    private void runFor(Callable<HttpRequest> requests, int seconds, Recorder recorder, AtomicLongArray statusCounts) throws Exception {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requests.call();
+                    long sentAt = System.nanoTime();
+                    int statusClass;
+                    try {
+                        statusClass = send(request).statusCode() / 100;
+                    } catch (IOException ioe) {
+                        statusClass = 0;
+                    }
+                    recorder.recordValue(Math.min(System.nanoTime() - sentAt, MAX_LATENCY_NANOS));
+                    statusCounts.incrementAndGet(statusClass);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) worker.get();
+        executor.shutdown();
+    }
+
+    private void report(String scenario, Histogram histogram, AtomicLongArray statusCounts, double elapsedSeconds) throws IOException {
+
+        long total = histogram.getTotalCount();
+        System.out.printf(
+                "%n[%s] 동시 %d, %.1fs, 요청 %d, 처리량 %.1f req/s%n",
+                scenario, concurrency, elapsedSeconds, total, total / elapsedSeconds
+        );
+        System.out.printf(
+                "  응답 2xx %d / 3xx %d / 4xx %d / 5xx %d / 연결 실패 %d%n",
+                statusCounts.get(2), statusCounts.get(3), statusCounts.get(4), statusCounts.get(5), statusCounts.get(0)
+        );
+        System.out.printf(
+                "  지연(ms) p50 %.2f / p90 %.2f / p99 %.2f / p99.9 %.2f / max %.2f%n",
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+        );
+
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve(scenario + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1_000_000.0); // ms 단위
+        }
+        System.out.println("  분포 : " + file);
+    }
+
+    private HttpRequest login(String email) {
+
+        String body = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", token)
+                .GET()
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.minischeduler.loadtest;
+
+/**
+ * 시드 데이터 규칙입니다. LoadSeedRunner 가 이 규칙으로 데이터를 만들고, LoadDriver 가 같은 규칙으로 계정을 찾습니다.
+ */
+public final class LoadSeed {
+
+    public static final int DEFAULT_AGENCIES = 20;
+    public static final int DEFAULT_FANS = 2000;
+    public static final int DEFAULT_EVENTS_PER_AGENCY = 48; // 연도마다 매달 2건
+    public static final int DEFAULT_BOOKINGS_PER_FAN = 3;
+
+    public static final String PASSWORD = "load1234!";
+    public static final String MANAGER_USERNAME = "manager"; // /manager 관리자 페이지 (요청 추적 확인용)
+    public static final int SEED_YEAR = 2023; // 시드 신청 내역이 있는 연도
+    public static final int BOOKING_YEAR = 2024; // 부하 테스트 중 새로 신청하는 연도
+
+    private LoadSeed() {
+    }
+
+    public static String agencyEmail(int index) {
+        return "agency" + index + "@load.test";
+    }
+
+    public static String fanEmail(int index) {
+        return "fan" + index + "@load.test";
+    }
+}
@@ -0,0 +1,142 @@
+package com.fastcampus.minischeduler.loadtest;
+
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.manager.Manager;
+import com.fastcampus.minischeduler.manager.ManagerRepository;
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdmin;
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminRepository;
+import com.fastcampus.minischeduler.scheduleruser.Progress;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRepository;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserNameIndexService;
+import com.fastcampus.minischeduler.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fastcampus.minischeduler.loadtest.LoadSeed.*;
+
+/**
+ * load 프로필로 기동하면 기획사/팬/행사/신청 내역을 만듭니다.
+ * ApplicationReadyEvent 전에 실행되므로 일정 구간 인덱스는 시드 데이터로 적재됩니다.
+ * 행사는 SEED_YEAR 와 BOOKING_YEAR 의 매달에 고르게 두고, 시드 신청 내역은 SEED_YEAR 에만 만들어
+ * 부하 테스트 중 신청(/user/schedule/create)은 BOOKING_YEAR 의 달을 사용할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+@Profile("load")
+@RequiredArgsConstructor
+public class LoadSeedRunner implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final ManagerRepository managerRepository;
+    private final SchedulerAdminRepository schedulerAdminRepository;
+    private final SchedulerUserRepository schedulerUserRepository;
+    private final UserNameIndexService userNameIndexService;
+    private final AES256Utils aes256Utils;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${my-env.load.agencies:" + DEFAULT_AGENCIES + "}")
+    private int agencies;
+
+    @Value("${my-env.load.fans:" + DEFAULT_FANS + "}")
+    private int fans;
+
+    @Value("${my-env.load.events-per-agency:" + DEFAULT_EVENTS_PER_AGENCY + "}")
+    private int eventsPerAgency;
+
+    @Value("${my-env.load.bookings-per-fan:" + DEFAULT_BOOKINGS_PER_FAN + "}")
+    private int bookingsPerFan;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+
+        long startedAt = System.currentTimeMillis();
+        String encodedPassword = passwordEncoder.encode(PASSWORD); // BCrypt 는 느리므로 한 번만 인코딩
+
+        List<User> agencyUsers = new ArrayList<>(agencies);
+        for (int i = 0; i < agencies; i++)
+            agencyUsers.add(user(agencyEmail(i), "기획사" + i, Role.ADMIN, encodedPassword, 0));
+        List<User> fanUsers = new ArrayList<>(fans);
+        for (int i = 0; i < fans; i++)
+            fanUsers.add(user(fanEmail(i), "팬" + i, Role.USER, encodedPassword, 12 - bookingsPerFan));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            managerRepository.save(Manager.builder().username(MANAGER_USERNAME).password(PASSWORD).build());
+            userRepository.saveAll(agencyUsers);
+            userRepository.saveAll(fanUsers);
+            for (int i = 0; i < agencies; i++) userNameIndexService.index(agencyUsers.get(i).getId(), "기획사" + i);
+        });
+
+        // events[agency][month - 1] : 기획사의 SEED_YEAR 해당 달 행사
+        SchedulerAdmin[][] seedYearEvents = new SchedulerAdmin[agencies][12];
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int a = 0; a < agencies; a++) {
+                for (int e = 0; e < eventsPerAgency; e++) {
+                    int year = e % 2 == 0 ? SEED_YEAR : BOOKING_YEAR;
+                    int month = (e / 2) % 12 + 1;
+                    LocalDateTime start = LocalDateTime.of(year, month, 1 + (a + e) % 28, 19, 0);
+                    SchedulerAdmin event = schedulerAdminRepository.save(SchedulerAdmin.builder()
+                            .user(agencyUsers.get(a))
+                            .scheduleStart(start)
+                            .scheduleEnd(start.plusHours(2))
+                            .title("공연" + a + "-" + e)
+                            .description("부하 테스트용 공연")
+                            .build());
+                    if (year == SEED_YEAR) seedYearEvents[a][month - 1] = event;
+                }
+            }
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<SchedulerUser> bookings = new ArrayList<>(fans * bookingsPerFan);
+            for (int f = 0; f < fans; f++) {
+                for (int m = 1; m <= bookingsPerFan; m++) {
+                    SchedulerAdmin event = seedYearEvents[f % agencies][m - 1];
+                    if (event == null) continue;
+                    bookings.add(SchedulerUser.builder()
+                            .user(fanUsers.get(f))
+                            .schedulerAdmin(event)
+                            .scheduleStart(event.getScheduleStart())
+                            .progress(Progress.values()[(f + m) % Progress.values().length])
+                            .build());
+                }
+            }
+            schedulerUserRepository.saveAll(bookings);
+        });
+
+        log.info(
+                "부하 테스트 시드 완료 : 기획사 {}, 팬 {}, 행사 {}, 신청 {}, {}ms",
+                agencies, fans, agencies * eventsPerAgency, schedulerUserRepository.count(),
+                System.currentTimeMillis() - startedAt
+        );
+    }
+
+    private User user(String email, String fullName, Role role, String encodedPassword, int sizeOfTicket) {
+        try {
+            return User.builder()
+                    .email(aes256Utils.encryptAES256(email))
+                    .fullName(aes256Utils.encryptAES256(fullName))
+                    .password(encodedPassword)
+                    .role(role)
+                    .sizeOfTicket(sizeOfTicket)
+                    .build();
+        } catch (GeneralSecurityException gse) {
+            throw new IllegalStateException(gse);
+        }
+    }
+}
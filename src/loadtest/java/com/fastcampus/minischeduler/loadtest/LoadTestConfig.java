@@ -0,0 +1,17 @@
+package com.fastcampus.minischeduler.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("load")
+public class LoadTestConfig {
+
+    // S3Config 의 s3Builder 를 대신함
+    @Bean
+    public AmazonS3 s3Builder() {
+        return new InMemoryAmazonS3();
+    }
+}
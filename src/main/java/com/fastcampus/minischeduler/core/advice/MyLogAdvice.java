@@ -29,7 +29,7 @@ public class MyLogAdvice {
 
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
-        log.debug("디버그 : " + method.getName() + " 성공");
+        log.debug("디버그 : {} 성공", method.getName());
     }
 
     @Before("myErrorLog()")
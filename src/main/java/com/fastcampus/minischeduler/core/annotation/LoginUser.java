@@ -0,0 +1,15 @@
+package com.fastcampus.minischeduler.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JwtAuthenticationFilter 가 인증한 사용자를 컨트롤러 파라미터로 받습니다.
+ * Long 이면 사용자 id, UserResponse.UserDto 이면 토큰의 사용자 정보가 주입됩니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
@@ -7,7 +7,6 @@ import com.fastcampus.minischeduler.core.auth.session.MyUserDetails;
 import com.fastcampus.minischeduler.user.Role;
 import com.fastcampus.minischeduler.user.User;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -23,11 +22,11 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
-    private JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenProvider jwtTokenProvider;
 
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager) {
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider) {
         super(authenticationManager);
-        if (jwtTokenProvider == null) this.jwtTokenProvider = new JwtTokenProvider();
+        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     @Override
@@ -47,14 +46,18 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         String jwt = prefixJwt.replace(JwtTokenProvider.TOKEN_PREFIX, "");
 
         try {
-            System.out.println("디버그 : 토큰 있음");
+            log.debug("디버그 : 토큰 있음");
             DecodedJWT decodedJWT = jwtTokenProvider.verify(jwt);
             Long id = decodedJWT.getClaim("id").asLong();
             String role = decodedJWT.getClaim("role").asString();
 
+            // 컨트롤러에서 토큰을 다시 파싱하지 않도록 사용자 정보 claim 도 함께 담음 (@LoginUser)
             User user = User.builder()
                     .id(id)
                     .role(Role.valueOf(role))
+                    .email(decodedJWT.getClaim("email").asString())
+                    .fullName(decodedJWT.getClaim("fullName").asString())
+                    .profileImage(decodedJWT.getClaim("profileImage").asString())
                     .build();
 
             MyUserDetails myUserDetails = new MyUserDetails(user);
@@ -65,7 +68,7 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
                             myUserDetails.getAuthorities()
                     );
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            System.out.println("디버그 : 인증 객체 생성");
+            log.debug("디버그 : 인증 객체 생성");
         } catch (SignatureVerificationException sve) {
             log.error("토큰 검증 실패");
         } catch (TokenExpiredException tee) {
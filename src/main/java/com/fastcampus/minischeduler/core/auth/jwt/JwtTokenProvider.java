@@ -5,13 +5,18 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.fastcampus.minischeduler.core.utils.LruCache;
 import com.fastcampus.minischeduler.user.Role;
 import com.fastcampus.minischeduler.user.User;
 import com.fastcampus.minischeduler.user.UserResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
 
@@ -28,6 +33,21 @@ public class JwtTokenProvider {
         SECRET = Base64.getEncoder().encodeToString(secret.getBytes());
     }
 
+    @Value("${my-env.jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    // Algorithm 과 JWTVerifier 는 스레드 안전하므로 하나만 만들어 재사용합니다.
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    private LruCache<String, DecodedJWT> claimsCache;
+
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC512(SECRET);
+        verifier = JWT.require(algorithm).build();
+        claimsCache = new LruCache<>(claimsCacheSize);
+    }
+
     public String create(User user) {
 
         String jwt = JWT.create()
@@ -38,29 +58,37 @@ public class JwtTokenProvider {
                 .withClaim("email", user.getEmail())
                 .withClaim("fullName", user.getFullName())
                 .withClaim("profileImage", user.getProfileImage())
-                .sign(Algorithm.HMAC512(SECRET));
+                .sign(algorithm);
 
         return TOKEN_PREFIX + jwt;
     }
 
+    /**
+     * 서명과 만료를 검증한 토큰을 반환합니다.
+     * 한 번 검증된 토큰은 만료 전까지 캐시에서 꺼내므로, 같은 토큰을 다시 검증하지 않습니다.
+     */
     public DecodedJWT verify(String jwt) throws SignatureVerificationException, TokenExpiredException {
 
-        return  JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(jwt);
+        String key = hash(jwt);
+        DecodedJWT decodedJWT = claimsCache.get(key);
+        if (decodedJWT != null) {
+            if (decodedJWT.getExpiresAt().getTime() > System.currentTimeMillis()) return decodedJWT;
+            claimsCache.remove(key); // 만료된 토큰은 verifier 가 TokenExpiredException 을 던지도록 함
+        }
+
+        decodedJWT = verifier.verify(jwt);
+        claimsCache.put(key, decodedJWT);
+
+        return decodedJWT;
     }
 
     public Long getUserIdFromToken(String token) {
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(token.replace(TOKEN_PREFIX, ""));
+        DecodedJWT decodedJWT = verify(token.replace(TOKEN_PREFIX, ""));
         return decodedJWT.getClaim("id").asLong();
     }
 
     public UserResponse.UserDto getUserInfo(String token) {
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(SECRET))
-                .build()
-                .verify(token.replace(TOKEN_PREFIX, ""));
+        DecodedJWT decodedJWT = verify(token.replace(TOKEN_PREFIX, ""));
 
         return UserResponse.UserDto.builder()
                 .id(decodedJWT.getClaim("id").asLong())
@@ -70,4 +98,14 @@ public class JwtTokenProvider {
                 .profileImage(decodedJWT.getClaim("profileImage").asString())
                 .build();
     }
-}
\ No newline at end of file
+
+    // 캐시 키 : 토큰 원문 대신 SHA-256 해시를 보관
+    private static String hash(String jwt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.fastcampus.minischeduler.core.auth.session;
+
+import com.fastcampus.minischeduler.core.annotation.LoginUser;
+import com.fastcampus.minischeduler.core.exception.ErrorCode;
+import com.fastcampus.minischeduler.core.exception.Exception401;
+import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * SecurityContext 에 담긴 인증 사용자를 @LoginUser 파라미터로 변환합니다.
+ * 토큰은 JwtAuthenticationFilter 에서 한 번만 검증하고, 컨트롤러에서는 다시 파싱하지 않습니다.
+ */
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+
+        if (!parameter.hasParameterAnnotation(LoginUser.class)) return false;
+
+        Class<?> type = parameter.getParameterType();
+        return type == Long.class || type == UserResponse.UserDto.class;
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof MyUserDetails))
+            throw new Exception401(ErrorCode.INVALID_AUTHENTICATION.getMessage());
+
+        User user = ((MyUserDetails) authentication.getPrincipal()).getUser();
+        if (parameter.getParameterType() == Long.class) return user.getId();
+
+        return UserResponse.UserDto.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .fullName(user.getFullName())
+                .role(user.getRole())
+                .profileImage(user.getProfileImage())
+                .build();
+    }
+}
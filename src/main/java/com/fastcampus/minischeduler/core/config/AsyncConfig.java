@@ -0,0 +1,72 @@
+package com.fastcampus.minischeduler.core.config;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    public static final String IMAGE_TASK_EXECUTOR = "imageTaskExecutor";
+    public static final String BATCH_TASK_EXECUTOR = "batchTaskExecutor";
+
+    /**
+     * 이미지 리사이즈 작업 풀 (원본 업로드는 요청 스레드에서 처리)
+     * 큐가 가득 차면 요청 스레드에서 직접 처리하므로(CallerRunsPolicy) 작업이 버려지지 않고 업로드 속도가 조절됩니다.
+     */
+    @Bean(name = IMAGE_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor imageTaskExecutor(
+            @Value("${my-env.image.pool-size:2}") int poolSize,
+            @Value("${my-env.image.queue-capacity:10}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(mdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 기동 시 실행하는 일회성/재개 작업과 오래 걸리는 정기 작업(티켓 초기화, 승인 현황 재집계)의 풀
+     * ApplicationReadyEvent 스레드나 하나뿐인 스케줄러 스레드를 오래 잡지 않도록 하며, 작업끼리는 순서대로 실행합니다.
+     */
+    @Bean(name = BATCH_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor batchTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("batch-");
+        executor.setTaskDecorator(mdcTaskDecorator());
+        return executor;
+    }
+
+    // 작업을 넣은 요청의 MDC(requestId)를 작업 스레드에서도 사용
+    private static TaskDecorator mdcTaskDecorator() {
+        return runnable -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (context == null) MDC.clear(); else MDC.setContextMap(context);
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous == null) MDC.clear(); else MDC.setContextMap(previous);
+                }
+            };
+        };
+    }
+}
@@ -1,19 +1,36 @@
 package com.fastcampus.minischeduler.core.config;
 
-import com.fastcampus.minischeduler.core.filter.MyTempFilter;
+import com.fastcampus.minischeduler.core.filter.RequestIdFilter;
+import com.fastcampus.minischeduler.core.filter.RequestTraceFilter;
+import com.fastcampus.minischeduler.core.trace.RequestTraceStore;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 public class FilterRegisterConfig {
+
+    // 보안 필터의 로그에도 requestId 가 남도록 가장 먼저 실행
+    @Bean
+    public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+
+        FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new RequestIdFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+
+    // 보안 필터의 토큰 검증도 측정에 포함되도록 requestId 다음에 실행
     @Bean
-    public FilterRegistrationBean<?> filter1() {
+    public FilterRegistrationBean<RequestTraceFilter> requestTraceFilter(RequestTraceStore requestTraceStore) {
 
-        FilterRegistrationBean<MyTempFilter> registration = new FilterRegistrationBean<>();
-        registration.setFilter(new MyTempFilter()); // 서블릿 필터 객체 담기
+        FilterRegistrationBean<RequestTraceFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new RequestTraceFilter(requestTraceStore));
         registration.addUrlPatterns("/*");
-        registration.setOrder(1); // 순서
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
 
         return registration;
     }
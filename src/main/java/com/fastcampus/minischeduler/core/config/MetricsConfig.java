@@ -0,0 +1,41 @@
+package com.fastcampus.minischeduler.core.config;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 메트릭 설정입니다.
+ * http.server.requests 타이머(uri, method, status, outcome, exception)에 처리한 컨트롤러 메서드를 handler 태그로 추가합니다.
+ * 예) handler=SchedulerAdminController.schedulerList
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Tag NO_HANDLER = Tag.of("handler", "none"); // 필터에서 끝난 요청, 정적 리소스 등
+
+    @Bean
+    public WebMvcTagsContributor handlerTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler, Throwable exception) {
+
+                if (!(handler instanceof HandlerMethod)) return Tags.of(NO_HANDLER);
+
+                HandlerMethod handlerMethod = (HandlerMethod) handler;
+                return Tags.of("handler", handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.empty();
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.fastcampus.minischeduler.core.config;
+
+import com.fastcampus.minischeduler.scheduleradmin.ScheduleIntervalIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+public class RedisConfig {
+
+    // 인스턴스 간 메모리 인덱스 변경 알림 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            ScheduleIntervalIndex scheduleIntervalIndex
+    ) {
+        RedisMessageListenerContainer container = new RetryingListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(scheduleIntervalIndex, new ChannelTopic(ScheduleIntervalIndex.CHANNEL));
+
+        return container;
+    }
+
+    /**
+     * Redis 가 내려가 있어도 기동이 실패하지 않도록 구독 실패를 로그로 남기고, 주기적으로 다시 구독합니다.
+     * 구독하지 못한 동안의 알림은 놓치므로 리스너는 주기적인 재적재 등으로 따로 맞춰야 합니다.
+     */
+    @Slf4j
+    static class RetryingListenerContainer extends RedisMessageListenerContainer {
+
+        @Override
+        public void start() {
+
+            try {
+                super.start();
+            } catch (RuntimeException re) { // 연결 실패는 RedisListenerExecutionFailedException 으로 감싸져 나옴
+                stop(); // 다음 start() 에서 다시 구독하도록 시작 상태를 되돌림
+                log.warn("Redis 채널을 구독하지 못했습니다, 다시 시도합니다 : {}", re.getMessage());
+            }
+        }
+
+        @Scheduled(fixedDelayString = "${my-env.redis.subscribe-retry-interval-ms:30000}")
+        public void retry() {
+            if (!isRunning()) start();
+        }
+    }
+}
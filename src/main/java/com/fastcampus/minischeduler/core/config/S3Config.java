@@ -3,13 +3,16 @@ package com.fastcampus.minischeduler.core.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
+@Profile("!load") // 부하 테스트(load)에서는 loadtest 소스셋의 메모리 S3 를 사용
 public class S3Config {
 
     @Value("${cloud.aws.credentials.accessKey}")
@@ -20,11 +23,13 @@ public class S3Config {
     private String region;
 
     @Bean
-    public AmazonS3 s3Builder() {
+    public AmazonS3 s3Builder(MeterRegistry meterRegistry) {
         AWSCredentials basicAWSCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
         return AmazonS3ClientBuilder.standard()
                 .withCredentials(new AWSStaticCredentialsProvider(basicAWSCredentials))
-                .withRegion(region).build();
+                .withRegion(region)
+                .withRequestHandlers(new S3MetricsRequestHandler(meterRegistry))
+                .build();
     }
 }
\ No newline at end of file
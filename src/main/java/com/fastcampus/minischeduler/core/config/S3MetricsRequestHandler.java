@@ -0,0 +1,56 @@
+package com.fastcampus.minischeduler.core.config;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.handlers.RequestHandler2;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * S3 호출 시간을 s3.requests 타이머로 기록합니다. (operation : PutObject, CopyObject, DeleteObject ...)
+ * 재시도를 포함한 호출 전체 시간이며, 실패하면 outcome=ERROR 와 예외 이름이 태그로 붙습니다.
+ */
+public class S3MetricsRequestHandler extends RequestHandler2 {
+
+    private static final HandlerContextKey<Timer.Sample> SAMPLE = new HandlerContextKey<>("MetricsSample");
+
+    private final MeterRegistry meterRegistry;
+
+    public S3MetricsRequestHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+        request.addHandlerContext(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Response<?> response) {
+        stop(request, "SUCCESS", "none");
+    }
+
+    @Override
+    public void afterError(Request<?> request, Response<?> response, Exception e) {
+        stop(request, "ERROR", e.getClass().getSimpleName());
+    }
+
+    private void stop(Request<?> request, String outcome, String exception) {
+
+        Timer.Sample sample = request.getHandlerContext(SAMPLE);
+        if (sample == null) return;
+
+        sample.stop(Timer.builder("s3.requests")
+                .tag("operation", operationOf(request))
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry));
+    }
+
+    // PutObjectRequest -> PutObject
+    private static String operationOf(Request<?> request) {
+        String name = request.getOriginalRequest().getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+}
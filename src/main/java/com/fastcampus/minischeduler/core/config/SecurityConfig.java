@@ -1,6 +1,7 @@
 package com.fastcampus.minischeduler.core.config;
 
 import com.fastcampus.minischeduler.core.auth.jwt.JwtAuthenticationFilter;
+import com.fastcampus.minischeduler.core.auth.jwt.JwtTokenProvider;
 import com.fastcampus.minischeduler.core.exception.Exception401;
 import com.fastcampus.minischeduler.core.exception.Exception403;
 import com.fastcampus.minischeduler.core.utils.FilterResponseUtils;
@@ -32,6 +33,8 @@ import static com.fastcampus.minischeduler.core.exception.ErrorCode.INVALID_USER
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private final JwtTokenProvider jwtTokenProvider;
+
     @Bean
     BCryptPasswordEncoder passwordEncoder(){
         return new BCryptPasswordEncoder();
@@ -51,7 +54,7 @@ public class SecurityConfig {
         public void configure(HttpSecurity builder) throws Exception {
 
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
-            builder.addFilter(new JwtAuthenticationFilter(authenticationManager));
+            builder.addFilter(new JwtAuthenticationFilter(authenticationManager, jwtTokenProvider));
 
             super.configure(builder);
         }
@@ -1,11 +1,15 @@
 package com.fastcampus.minischeduler.core.config;
 
+import com.fastcampus.minischeduler.core.auth.session.LoginUserArgumentResolver;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
+import java.util.List;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
@@ -33,5 +37,10 @@ public class WebMvcConfig implements WebMvcConfigurer {
     }
 
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new LoginUserArgumentResolver());
+    }
+
     // CORS, Interceptor, Resource, addArgumentResolvers, viewResolver, MessageConverter
 }
\ No newline at end of file
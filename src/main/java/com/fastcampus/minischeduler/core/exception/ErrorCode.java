@@ -13,6 +13,9 @@ public enum ErrorCode {
     INVALID_AUTHENTICATION("인증되지 않았습니다"),
     INVALID_ACCESS("잘못된 접근입니다"),
     INVALID_CREATE_SCHEDULE("한달에 한번만 공연을 신청할 수 있습니다."),
+    INVALID_CURSOR("유효하지 않은 커서입니다"),
+    INVALID_PAGE_SIZE("페이지 크기는 1~100 사이여야 합니다"),
+    INVALID_DATE_RANGE("조회 기간이 올바르지 않습니다"),
 
     EMPTY_ID("아이디를 입력해주세요"),
     EMPTY_PASSWORD("비밀번호를 입력해주세요"),
@@ -24,12 +27,15 @@ public enum ErrorCode {
     EMPTY_PROGRESS("'승인' 또는 '거절'을 선택해주세요"),
     EMPTY_SCHEDULE_INFO("해당하는 공연의 정보를 찾을 수 없습니다"),
     EMPTY_TICKET("티켓이 부족합니다."),
+    EMPTY_TICKET_ID("결재할 티켓을 선택해주세요"),
+    TOO_MANY_TICKETS("한 번에 결재할 수 있는 티켓 수를 초과했습니다"),
 
     ALREADY_ACCEPTED_TICKET("이미 승인된 티켓입니다"),
     ALREADY_REFUSED_TICKET("이미 거절된 티켓입니다"),
 
     EXISTING_EMAIL("이미 존재하는 이메일입니다"),
     FILE_CAPACITY_EXCEEDED("파일이 너무 큽니다"),
+    IMAGE_TOO_LARGE("이미지 해상도가 너무 큽니다"),
     CHECK_ID_PASSWORD("아이디와 비밀번호를 확인해주세요"),
     CHECK_ID("아이디를 확인해주세요"),
     CHECK_PASSWORD("비밀번호를 확인해주세요");
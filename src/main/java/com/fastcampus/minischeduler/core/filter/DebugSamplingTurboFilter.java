@@ -0,0 +1,46 @@
+package com.fastcampus.minischeduler.core.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DEBUG/TRACE 로그를 로거마다 rate 건 중 1건만 남깁니다. (logback-spring.xml 의 turboFilter)
+ * 요청마다 찍히는 디버그 로그가 켜져 있어도 로그 양과 appender 큐 사용량이 rate 분의 1 로 줄어듭니다.
+ * INFO 이상과, 로거 레벨에서 이미 꺼진 로그에는 관여하지 않습니다.
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+    private int rate = 100;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>(); // 로거 이름 -> 호출 수
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void start() {
+        if (rate < 1) {
+            addError("rate 는 1 이상이어야 합니다 : " + rate);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+
+        // isDebugEnabled() 같은 레벨 확인 호출(format == null)은 그대로 두어야 로그를 만드는 비용을 아낄 수 있음
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.INFO)) return FilterReply.NEUTRAL;
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) return FilterReply.NEUTRAL; // 어차피 남지 않음
+
+        long count = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        return count % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
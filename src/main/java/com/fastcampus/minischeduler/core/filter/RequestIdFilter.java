@@ -0,0 +1,49 @@
+package com.fastcampus.minischeduler.core.filter;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 id 를 MDC(requestId)에 넣어 같은 요청의 로그를 묶을 수 있게 합니다.
+ * 로드밸런서 등이 X-Request-Id 헤더를 보내면 그 값을 사용하고, 없으면 새로 만들어 응답 헤더로 돌려줍니다.
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    // 로그 주입을 막기 위해 외부에서 받은 id 는 영문/숫자/-/_ 64자까지만 허용
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) requestId = newRequestId();
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    // UUID.randomUUID 는 SecureRandom 을 공유해 요청이 몰리면 경합하므로 스레드별 난수 64bit 를 사용
+    private static String newRequestId() {
+        return String.format("%016x", ThreadLocalRandom.current().nextLong());
+    }
+}
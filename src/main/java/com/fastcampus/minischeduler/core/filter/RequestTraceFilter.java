@@ -0,0 +1,83 @@
+package com.fastcampus.minischeduler.core.filter;
+
+import com.fastcampus.minischeduler.core.trace.RequestTrace;
+import com.fastcampus.minischeduler.core.trace.RequestTraceStore;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 요청마다 처리 시간, SQL 실행 수, 로드한 엔티티 수, AES 호출 수를 기록합니다.
+ * SQL 실행 수가 예산(my-env.trace.statement-budget)을 넘으면 N+1 의심으로 경고 로그를 남깁니다.
+ * 요약은 RequestTraceStore 에 보관되어 /manager/traces 에서 볼 수 있습니다.
+ */
+@Slf4j
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final RequestTraceStore requestTraceStore;
+
+    public RequestTraceFilter(RequestTraceStore requestTraceStore) {
+        this.requestTraceStore = requestTraceStore;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        RequestTrace trace = RequestTrace.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.end();
+            record(request, response, trace, startedAt, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    private void record(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            RequestTrace trace,
+            LocalDateTime startedAt,
+            long elapsedMs
+    ) {
+        // /user/schedule/{id} 처럼 매핑 패턴으로 남겨 같은 API 끼리 묶어 볼 수 있게 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : request.getRequestURI();
+        int budget = requestTraceStore.getStatementBudget();
+        boolean overBudget = trace.getStatements() > budget;
+
+        requestTraceStore.add(new RequestTraceStore.Summary(
+                MDC.get(RequestIdFilter.MDC_KEY),
+                request.getMethod(),
+                uri,
+                response.getStatus(),
+                startedAt,
+                elapsedMs,
+                trace.getStatements(),
+                trace.getEntityLoads(),
+                trace.getAesCalls(),
+                overBudget
+        ));
+
+        if (overBudget) {
+            log.warn(
+                    "SQL 실행 수 초과(N+1 의심) : {} {} statements={} budget={} entityLoads={} aesCalls={} {}ms",
+                    request.getMethod(), uri, trace.getStatements(), budget,
+                    trace.getEntityLoads(), trace.getAesCalls(), elapsedMs
+            );
+        }
+    }
+}
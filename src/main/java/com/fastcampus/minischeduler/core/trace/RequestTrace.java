@@ -0,0 +1,54 @@
+package com.fastcampus.minischeduler.core.trace;
+
+/**
+ * 요청 하나에서 실행한 SQL 수, 로드한 엔티티 수, AES 암호화/복호화 수를 셉니다.
+ * RequestTraceFilter 가 요청 스레드에 시작/종료하며, 추적 중이 아닌 스레드(배치, 비동기 작업)에서의 호출은 무시합니다.
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int aesCalls;
+
+    private RequestTrace() {
+    }
+
+    public static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static void statement() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.statements++;
+    }
+
+    public static void entityLoad() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.entityLoads++;
+    }
+
+    public static void aesCalls(int count) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.aesCalls += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getAesCalls() {
+        return aesCalls;
+    }
+}
@@ -0,0 +1,101 @@
+package com.fastcampus.minischeduler.core.trace;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 요청의 추적 요약을 고정 크기 링 버퍼에 보관합니다. (/manager/traces)
+ * SQL 예산을 넘은 요청은 별도 버퍼에도 넣어, 일반 요청이 많아도 밀려나지 않게 합니다.
+ */
+@Component
+public class RequestTraceStore {
+
+    @Value("${my-env.trace.buffer-size:200}")
+    private int bufferSize;
+
+    @Value("${my-env.trace.statement-budget:20}")
+    private int statementBudget;
+
+    private Ring recent;
+    private Ring overBudget;
+
+    @PostConstruct
+    public void init() {
+        recent = new Ring(bufferSize);
+        overBudget = new Ring(bufferSize);
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void add(Summary summary) {
+        recent.add(summary);
+        if (summary.isOverBudget()) overBudget.add(summary);
+    }
+
+    /**
+     * 최근 요청 요약, 최신순
+     */
+    public List<Summary> getRecent() {
+        return recent.toList();
+    }
+
+    /**
+     * SQL 예산을 넘은 요청 요약, 최신순
+     */
+    public List<Summary> getOverBudget() {
+        return overBudget.toList();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Summary {
+
+        private String requestId;
+        private String method;
+        private String uri; // 컨트롤러 매핑 패턴, 없으면 요청 경로
+        private int status;
+        private LocalDateTime startedAt;
+        private long elapsedMs;
+        private int statements;
+        private int entityLoads;
+        private int aesCalls;
+        private boolean overBudget;
+    }
+
+    private static class Ring {
+
+        private final AtomicReferenceArray<Summary> slots;
+        private final AtomicLong cursor = new AtomicLong(); // 다음에 쓸 위치
+
+        private Ring(int size) {
+            slots = new AtomicReferenceArray<>(size);
+        }
+
+        private void add(Summary summary) {
+            slots.set((int) (cursor.getAndIncrement() % slots.length()), summary);
+        }
+
+        private List<Summary> toList() {
+
+            int size = slots.length();
+            long end = cursor.get();
+            List<Summary> summaries = new ArrayList<>(size);
+            for (long i = end - 1; i >= Math.max(0, end - size); i--) {
+                Summary summary = slots.get((int) (i % size));
+                if (summary != null) summaries.add(summary);
+            }
+            return summaries;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.fastcampus.minischeduler.core.trace;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * 요청별로 DB 에서 읽어 만든 엔티티 수를 셉니다. 1차 캐시에서 꺼낸 엔티티는 세지 않습니다.
+ * (spring.jpa.properties.hibernate.session_factory.interceptor)
+ */
+public class TraceInterceptor extends EmptyInterceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestTrace.entityLoad();
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fastcampus.minischeduler.core.trace;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 을 요청별로 셉니다. SQL 은 바꾸지 않습니다.
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector)
+ */
+public class TraceStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTrace.statement();
+        return sql;
+    }
+}
@@ -1,20 +1,30 @@
 package com.fastcampus.minischeduler.core.utils;
 
+import com.fastcampus.minischeduler.core.trace.RequestTrace;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.BadPaddingException;
+import javax.annotation.PostConstruct;
 import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
-public class AES256Utils {
+public class AES256Utils implements MeterBinder {
+
+    // decryptAll 에서 한 작업이 순차로 처리하는 최대 건수
+    private static final int BATCH_THRESHOLD = 64;
 
     @Value("${my-env.aes256.key}")
     private String key; // 32byte
@@ -27,28 +37,153 @@ public class AES256Utils {
         AES256Utils.alg = alg;
     }
 
+    private SecretKeySpec keySpec;
+    private IvParameterSpec ivParamSpec;
+
+    // Cipher 는 스레드 안전하지 않으므로 스레드마다 초기화된 Cipher 를 재사용합니다.
+    // doFinal 이후 Cipher 는 init 직후 상태로 돌아가므로 다시 init 할 필요가 없습니다.
+    private ThreadLocal<Cipher> encryptCiphers;
+    private ThreadLocal<Cipher> decryptCiphers;
+
+    // 요청마다 여러 번 호출되므로 경합이 적은 LongAdder 로 세고 aes256.operations 로 노출합니다.
+    private final LongAdder encrypted = new LongAdder();
+    private final LongAdder decrypted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES"); // 비밀키
+        ivParamSpec = new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8));
+        encryptCiphers = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
+        decryptCiphers = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
+    }
+
+    private Cipher newCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(alg); // Cipher 객체 인스턴스화(Java에서는 PKCS#5 = PKCS#7이랑 동일)
+            cipher.init(mode, keySpec, ivParamSpec);
+            return cipher;
+        } catch (GeneralSecurityException gse) {
+            throw new IllegalStateException(gse);
+        }
+    }
+
     // 암호화
     public String encryptAES256(String text) throws GeneralSecurityException {
-        Cipher cipher = Cipher.getInstance(alg); // Cipher 객체 인스턴스화(Java에서는 PKCS#5 = PKCS#7이랑 동일)
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(), "AES"); // 비밀키
-        IvParameterSpec ivParamSpec = new IvParameterSpec(iv.getBytes());
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivParamSpec); // Cipher 객체 초기화(암호화)
+        byte[] encryptedBytes = doFinal(encryptCiphers, text.getBytes(StandardCharsets.UTF_8));
+        encrypted.increment();
+        RequestTrace.aesCalls(1);
 
-        byte[] encrypted = cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
-
-        return Base64.getEncoder().encodeToString(encrypted); // Base64 인코딩 3f
+        return Base64.getEncoder().encodeToString(encryptedBytes); // Base64 인코딩 3f
     }
 
     // 복호화
     public String decryptAES256(String cipherText) throws GeneralSecurityException {
-        Cipher cipher = Cipher.getInstance(alg); // Cipher 객체 인스턴스화(Java에서는 PKCS#5 = PKCS#7이랑 동일)
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(), "AES"); // 비밀키
-        IvParameterSpec ivParamSpec = new IvParameterSpec(iv.getBytes());
-        cipher.init(Cipher.DECRYPT_MODE, keySpec, ivParamSpec); // Cipher 객체 초기화(복호화)
+        RequestTrace.aesCalls(1);
+        return decrypt(cipherText);
+    }
 
+    // 요청 추적은 호출한 스레드에서 건수만큼 한 번에 세므로, ForkJoin 작업 스레드에서는 이 메서드를 사용
+    private String decrypt(String cipherText) throws GeneralSecurityException {
         byte[] decodedBytes = Base64.getDecoder().decode(cipherText); // Base64 디코딩 3f
-        byte[] decrypted = cipher.doFinal(decodedBytes);
+        byte[] decryptedBytes = doFinal(decryptCiphers, decodedBytes);
+        decrypted.increment();
+
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 여러 건을 한번에 복호화합니다. 입력 순서대로 결과를 반환하며,
+     * 건수가 많으면 ForkJoin 공용 풀에서 나누어 처리합니다.
+     * @param cipherTexts : 암호문 목록
+     * @return            : 복호화된 평문 목록
+     */
+    public List<String> decryptAll(List<String> cipherTexts) throws GeneralSecurityException {
+
+        String[] plainTexts = new String[cipherTexts.size()];
+        RequestTrace.aesCalls(plainTexts.length);
+
+        if (plainTexts.length <= BATCH_THRESHOLD) {
+            for (int i = 0; i < plainTexts.length; i++) plainTexts[i] = decrypt(cipherTexts.get(i));
+            return Arrays.asList(plainTexts);
+        }
+
+        try {
+            ForkJoinPool.commonPool().invoke(new DecryptTask(cipherTexts, plainTexts, 0, plainTexts.length));
+        } catch (DecryptException de) {
+            throw de.getCause();
+        }
+        return Arrays.asList(plainTexts);
+    }
+
+    private byte[] doFinal(ThreadLocal<Cipher> ciphers, byte[] input) throws GeneralSecurityException {
+        try {
+            return ciphers.get().doFinal(input);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            ciphers.remove(); // 상태를 알 수 없는 Cipher 는 버리고 다음 호출에서 새로 만듭니다.
+            failed.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("aes256.operations", encrypted, LongAdder::sum)
+                .tag("operation", "encrypt")
+                .register(registry);
+        FunctionCounter.builder("aes256.operations", decrypted, LongAdder::sum)
+                .tag("operation", "decrypt")
+                .register(registry);
+        FunctionCounter.builder("aes256.failures", failed, LongAdder::sum)
+                .description("암호화/복호화 실패 횟수")
+                .register(registry);
+    }
+
+    private class DecryptTask extends RecursiveAction {
+
+        private final List<String> cipherTexts;
+        private final String[] plainTexts;
+        private final int from;
+        private final int to;
+
+        DecryptTask(List<String> cipherTexts, String[] plainTexts, int from, int to) {
+            this.cipherTexts = cipherTexts;
+            this.plainTexts = plainTexts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from <= BATCH_THRESHOLD) {
+                try {
+                    for (int i = from; i < to; i++) plainTexts[i] = decrypt(cipherTexts.get(i));
+                } catch (GeneralSecurityException gse) {
+                    throw new DecryptException(gse);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new DecryptTask(cipherTexts, plainTexts, from, mid),
+                    new DecryptTask(cipherTexts, plainTexts, mid, to)
+            );
+        }
+    }
+
+    // ForkJoin 작업에서 검사 예외를 전달하기 위한 래퍼
+    private static class DecryptException extends RuntimeException {
+
+        DecryptException(GeneralSecurityException cause) {
+            super(cause);
+        }
 
-        return new String(decrypted, StandardCharsets.UTF_8);
+        @Override
+        public synchronized GeneralSecurityException getCause() {
+            return (GeneralSecurityException) super.getCause();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.fastcampus.minischeduler.core.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 암호화된 이름을 복호화하지 않고 부분 검색하기 위한 블라인드 인덱스 토큰을 만듭니다.
+ * 이름의 1-gram, 2-gram 을 HMAC-SHA256 으로 해시한 값의 앞 12byte 를 토큰으로 사용하며,
+ * 키를 모르면 토큰으로부터 이름을 유추할 수 없습니다.
+ */
+@Component
+public class BlindIndexUtils {
+
+    private static final String ALG = "HmacSHA256";
+    private static final int TOKEN_BYTES = 12; // Base64 16자
+
+    @Value("${my-env.blind-index.key}")
+    private String key;
+
+    private SecretKeySpec keySpec;
+    private ThreadLocal<Mac> macs;
+
+    @PostConstruct
+    public void init() {
+        keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALG);
+        macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALG);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException gse) {
+                throw new IllegalStateException(gse);
+            }
+        });
+    }
+
+    /**
+     * 저장용 토큰 : 이름의 모든 1-gram, 2-gram 토큰
+     */
+    public Set<String> indexTokensOf(String plainText) {
+
+        String normalized = normalize(plainText);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(hash(normalized.substring(i, i + 1)));
+            if (i + 1 < normalized.length()) tokens.add(hash(normalized.substring(i, i + 2)));
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색용 토큰 : 한 글자면 1-gram, 그 이상이면 2-gram 토큰
+     * 검색어를 포함하는 이름은 반드시 이 토큰을 모두 가지고 있습니다.
+     */
+    public Set<String> queryTokensOf(String keyword) {
+
+        String normalized = normalize(keyword);
+        Set<String> tokens = new LinkedHashSet<>();
+        if (normalized.length() == 1) tokens.add(hash(normalized));
+        for (int i = 0; i + 1 < normalized.length(); i++) tokens.add(hash(normalized.substring(i, i + 2)));
+        return tokens;
+    }
+
+    private String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private String hash(String gram) {
+        byte[] digest = macs.get().doFinal(gram.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(digest, TOKEN_BYTES));
+    }
+}
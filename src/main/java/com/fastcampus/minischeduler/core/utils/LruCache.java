@@ -0,0 +1,46 @@
+package com.fastcampus.minischeduler.core.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거하는 스레드 안전한 인메모리 캐시입니다.
+ * @param <K> : 키 타입
+ * @param <V> : 값 타입
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> map;
+
+    public LruCache(int maxSize) {
+
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive");
+
+        this.map = new LinkedHashMap<>(16, 0.75f, true) { // accessOrder = true
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,200 @@
+package com.fastcampus.minischeduler.image;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.fastcampus.minischeduler.core.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * S3 에 올라간 원본 이미지로 ImageVariant 별 리사이즈 버전을 만듭니다.
+ * 리사이즈는 요청 스레드가 아닌 이미지 작업 풀(AsyncConfig.IMAGE_TASK_EXECUTOR)에서 실행됩니다.
+ * 디코딩 전에 헤더만 읽어 픽셀 수를 확인하므로, 파일은 작지만 해상도가 큰 이미지로 힙이 가득 차지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageProcessor {
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${my-env.image.max-pixels:25000000}")
+    private long maxPixels;
+
+    @Value("${my-env.image.resize-attempts:3}")
+    private int resizeAttempts;
+
+    @Value("${my-env.image.resize-retry-delay-ms:1000}")
+    private long resizeRetryDelayMs;
+
+    /**
+     * 원본 이미지(originalKey)의 리사이즈 버전을 저장합니다. 원본은 이미 S3 에 있어야 합니다.
+     * 실패한 버전만 my-env.image.resize-attempts 번까지 간격을 늘려가며 다시 시도하고,
+     * 마지막 시도에서는 원본을 복사해 ImageVariant.urlOf 의 url 이 비어 있지 않도록 합니다.
+     */
+    @Async(AsyncConfig.IMAGE_TASK_EXECUTOR)
+    public void resizeAll(String originalKey, byte[] bytes, String contentType) {
+
+        String format = formatOf(originalKey);
+        BufferedImage source = decode(originalKey, bytes, format);
+
+        List<ImageVariant> pending = new ArrayList<>(Arrays.asList(ImageVariant.values()));
+        for (int attempt = 1; ; attempt++) {
+            // 리사이즈 자체가 계속 실패하는 경우를 위해 마지막 시도는 원본 복사
+            boolean copyOriginal = source == null || (attempt > 1 && attempt >= resizeAttempts);
+            pending.removeIf(variant -> store(originalKey, variant, source, format, contentType, copyOriginal));
+            if (pending.isEmpty()) return;
+
+            if (attempt >= resizeAttempts) {
+                log.error("리사이즈 이미지를 만들지 못했습니다 : {} {}", originalKey, pending);
+                return;
+            }
+            try {
+                Thread.sleep(resizeRetryDelayMs * attempt);
+            } catch (InterruptedException ie) { // 종료 중 : 남은 버전은 포기
+                Thread.currentThread().interrupt();
+                log.error("리사이즈 재시도 중 중단되었습니다 : {} {}", originalKey, pending);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 리사이즈할 수 있으면 디코딩한 이미지를, 형식을 지원하지 않거나 해상도가 너무 크거나 읽을 수 없으면 null 을 반환합니다.
+     */
+    private BufferedImage decode(String originalKey, byte[] bytes, String format) {
+
+        try {
+            if (format != null && isAllowedSize(bytes)) return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException ioe) {
+            log.warn("이미지를 읽을 수 없어 원본을 그대로 사용합니다 : {}", originalKey);
+        }
+        return null;
+    }
+
+    /**
+     * 한 버전을 저장합니다. 리사이즈할 수 없는 형식이거나 copyOriginal 이면 원본을 복사해 url 규칙만 맞춥니다.
+     * @return 저장에 성공하면 true
+     */
+    private boolean store(
+            String originalKey,
+            ImageVariant variant,
+            BufferedImage source,
+            String format,
+            String contentType,
+            boolean copyOriginal
+    ) {
+        String variantKey = variant.keyOf(originalKey);
+        try {
+            if (copyOriginal) {
+                amazonS3.copyObject(
+                        new CopyObjectRequest(bucketName, originalKey, bucketName, variantKey)
+                                .withCannedAccessControlList(CannedAccessControlList.PublicRead)
+                );
+            } else {
+                put(variantKey, resize(source, variant.getMaxSize(), format), contentType);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("리사이즈 이미지 업로드 실패 : {}", variantKey, e);
+            return false;
+        }
+    }
+
+    /**
+     * 헤더의 가로/세로로 픽셀 수가 max-pixels 이하인지 확인합니다.
+     * ImageIO 가 읽을 수 없는 형식은 디코딩하지 않으므로 허용합니다.
+     */
+    public boolean isAllowedSize(byte[] bytes) throws IOException {
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return true;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0) <= maxPixels;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void put(String key, byte[] bytes, String contentType) {
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(bytes.length);
+
+        amazonS3.putObject(
+                new PutObjectRequest(bucketName, key, new ByteArrayInputStream(bytes), metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead)
+        );
+    }
+
+    /**
+     * 긴 변이 maxSize 를 넘지 않도록 비율을 유지해 줄입니다. 작은 이미지는 늘리지 않습니다.
+     */
+    private byte[] resize(BufferedImage source, int maxSize, String format) throws IOException {
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // jpg 는 알파 채널을 쓸 수 없음
+        int type = format.equals("png") || format.equals("gif")
+                ? BufferedImage.TYPE_INT_ARGB
+                : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, type);
+
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(target, format, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 확장자로 ImageIO 가 쓸 수 있는 형식을 구합니다. 지원하지 않으면 null
+     */
+    private String formatOf(String key) {
+
+        String extension = key.substring(key.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (extension.equals("jpeg")) extension = "jpg";
+
+        return ImageIO.getImageWritersBySuffix(extension).hasNext() ? extension : null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.fastcampus.minischeduler.image;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.fastcampus.minischeduler.core.exception.ErrorCode;
+import com.fastcampus.minischeduler.core.exception.Exception400;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 이미지 업로드/삭제를 담당합니다.
+ * 원본은 요청 안에서 S3 에 저장하므로 반환한 url 은 바로 열 수 있고, 리사이즈 버전만 ImageProcessor 가 백그라운드에서 만듭니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageService {
+
+    private static final String DEFAULT_IMAGE_NAME = "default.jpg"; // 공용 기본 이미지, 삭제하지 않음
+
+    private final AmazonS3 amazonS3;
+    private final ImageProcessor imageProcessor;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    /**
+     * 원본 이미지를 S3 에 저장하고 url 을 반환합니다.
+     * 리사이즈는 트랜잭션이 커밋된 뒤에 시작하며, 롤백되면 저장한 원본을 지웁니다. (트랜잭션 밖에서는 바로 시작)
+     * @param image : 업로드한 이미지 (최대 10MB)
+     * @return      : 원본 이미지 url, 리사이즈 버전 url 은 ImageVariant.urlOf 로 구함
+     * @throws Exception400 : 해상도가 my-env.image.max-pixels 를 넘는 경우
+     * @throws IOException : 이미지를 읽거나 S3 에 저장하지 못한 경우
+     */
+    public String upload(MultipartFile image) throws IOException {
+
+        String originalKey = ImageVariant.ORIGINAL_PREFIX + changedImageName(image.getOriginalFilename());
+        String contentType = image.getContentType();
+
+        // MultipartFile 은 요청이 끝나면 정리되므로 작업에 넘기기 전에 내용을 읽어 둠
+        byte[] bytes = image.getBytes();
+        if (!imageProcessor.isAllowedSize(bytes)) throw new Exception400("image", ErrorCode.IMAGE_TOO_LARGE.getMessage());
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(bytes.length);
+        try {
+            amazonS3.putObject(
+                    new PutObjectRequest(bucketName, originalKey, new ByteArrayInputStream(bytes), metadata)
+                            .withCannedAcl(CannedAccessControlList.PublicRead)
+            );
+        } catch (SdkClientException sce) {
+            throw new IOException("원본 이미지 업로드 실패 : " + originalKey, sce);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            imageProcessor.resizeAll(originalKey, bytes, contentType);
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    imageProcessor.resizeAll(originalKey, bytes, contentType);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) deleteQuietly(originalKey);
+                }
+            });
+        }
+
+        return amazonS3.getUrl(bucketName, originalKey).toString();
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 이미지 url 의 원본과 리사이즈 버전을 모두 삭제합니다. (트랜잭션 밖에서는 바로 삭제)
+     * 롤백되면 DB 가 계속 이 url 을 가리키므로 지우지 않습니다.
+     */
+    public void deleteAfterCommit(String imageUrl) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(imageUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 이미 커밋되었으므로 실패해도 요청 결과에는 영향이 없음 (S3 에 파일만 남음)
+                try {
+                    delete(imageUrl);
+                } catch (SdkClientException sce) {
+                    log.warn("이미지를 지우지 못했습니다 : {}", imageUrl, sce);
+                }
+            }
+        });
+    }
+
+    /**
+     * 이미지 url 의 원본과 리사이즈 버전을 모두 삭제합니다.
+     */
+    public void delete(String imageUrl) {
+
+        int index = ImageVariant.keyIndexOf(imageUrl);
+        if (index < 0) { // 기본 이미지 또는 이전 방식으로 올린 이미지 : 버킷 루트에 원본만 있음
+            String fileName = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+            if (!fileName.equals(DEFAULT_IMAGE_NAME)) amazonS3.deleteObject(new DeleteObjectRequest(bucketName, fileName));
+            return;
+        }
+
+        String originalKey = imageUrl.substring(index);
+        amazonS3.deleteObject(new DeleteObjectRequest(bucketName, originalKey));
+        for (ImageVariant variant : ImageVariant.values())
+            amazonS3.deleteObject(new DeleteObjectRequest(bucketName, variant.keyOf(originalKey)));
+    }
+
+    // 롤백 후 정리 : 실패해도 요청 결과에는 영향이 없으므로 로그만 남김
+    private void deleteQuietly(String originalKey) {
+
+        try {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucketName, originalKey));
+        } catch (SdkClientException sce) {
+            log.warn("롤백된 요청의 원본 이미지를 지우지 못했습니다 : {}", originalKey, sce);
+        }
+    }
+
+    private String changedImageName(String originName) { //이미지 이름 중복 방지를 위해 랜덤으로 생성, 경로 구분자는 key 규칙을 깨므로 제거
+        return UUID.randomUUID() + (originName == null ? "" : originName.replaceAll("[/\\\\]", "_"));
+    }
+}
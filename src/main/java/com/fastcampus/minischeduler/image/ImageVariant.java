@@ -0,0 +1,76 @@
+package com.fastcampus.minischeduler.image;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 업로드한 이미지로 만드는 리사이즈 버전입니다.
+ * 원본은 S3 의 original/ 아래에, 각 버전은 같은 파일명으로 {이름}/ 아래에 저장됩니다.
+ */
+public enum ImageVariant {
+
+    THUMBNAIL(64),  // 관리자 회원 목록, 캘린더 아이콘
+    LIST(320),      // 일정 목록 카드
+    DETAIL(1080);   // 일정 상세
+
+    public static final String ORIGINAL_PREFIX = "original/";
+
+    private final int maxSize; // 긴 변 기준 최대 픽셀
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String getPrefix() {
+        return name().toLowerCase(Locale.ROOT) + "/";
+    }
+
+    /**
+     * 원본 S3 key 로부터 이 버전의 key 를 만듭니다.
+     */
+    public String keyOf(String originalKey) {
+        return getPrefix() + originalKey.substring(ORIGINAL_PREFIX.length());
+    }
+
+    /**
+     * 원본 이미지 url 로부터 이 버전의 url 을 만듭니다.
+     * 리사이즈 버전이 없는 이미지(기본 이미지, 이전 방식으로 올린 이미지)는 원본 url 을 그대로 반환합니다.
+     * keyOf 와 같이 key 맨 앞의 original/ 만 바꿉니다.
+     */
+    public String urlOf(String originalUrl) {
+
+        int index = keyIndexOf(originalUrl);
+        if (index < 0) return originalUrl;
+
+        return originalUrl.substring(0, index) + keyOf(originalUrl.substring(index));
+    }
+
+    /**
+     * url 에서 원본 key(original/...)가 시작하는 위치를 반환합니다. 원본 key 가 아니면 -1
+     */
+    public static int keyIndexOf(String url) {
+
+        int index = url == null ? -1 : url.indexOf("/" + ORIGINAL_PREFIX);
+        return index < 0 ? -1 : index + 1;
+    }
+
+    /**
+     * 모든 버전의 url 을 {"thumbnail": url, "list": url, "detail": url} 형태로 반환합니다.
+     * 버전은 업로드 직후 백그라운드에서 만들어지므로, 아직 없으면(404) 원본 url 로 대신 표시해야 합니다.
+     */
+    public static Map<String, String> urlsOf(String originalUrl) {
+
+        if (originalUrl == null) return Collections.emptyMap();
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (ImageVariant variant : values())
+            urls.put(variant.name().toLowerCase(Locale.ROOT), variant.urlOf(originalUrl));
+        return urls;
+    }
+}
@@ -0,0 +1,117 @@
+package com.fastcampus.minischeduler.log;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 기록(login_log_tb)을 모아서 저장합니다.
+ * 로그인 요청은 큐에 넣기만 하고, 백그라운드에서 주기적으로 JDBC batch insert 합니다.
+ * 큐가 가득 차면 로그인을 막지 않고 새 기록을 버리며, 버린 건수는 login.log.dropped 로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginLogWriter implements MeterBinder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO login_log_tb (user_id, user_agent, clientip, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${my-env.login-log.queue-capacity:10000}")
+    private int queueCapacity;
+    @Value("${my-env.login-log.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<LoginLog> queue;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 로그인 기록을 큐에 넣습니다. 큐가 가득 차 있으면 기록을 버립니다.
+     */
+    public void write(Long userId, String userAgent, String clientIP) {
+
+        LoginLog loginLog = LoginLog.builder()
+                .userId(userId)
+                .userAgent(userAgent)
+                .clientIP(clientIP)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        if (!queue.offer(loginLog) && dropped.incrementAndGet() % 1000 == 1)
+            log.warn("로그인 기록 큐가 가득 차 기록을 버립니다 : 누적 {}건", dropped.get());
+    }
+
+    /**
+     * 큐에 쌓인 기록을 batch-size 단위로 저장합니다.
+     * 저장에 실패한 묶음은 다시 넣지 않고 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${my-env.login-log.flush-interval-ms:1000}")
+    public synchronized void flush() {
+
+        List<LoginLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, loginLog) -> {
+                    ps.setLong(1, loginLog.getUserId());
+                    ps.setString(2, loginLog.getUserAgent());
+                    ps.setString(3, loginLog.getClientIP());
+                    ps.setTimestamp(4, Timestamp.valueOf(loginLog.getCreatedAt()));
+                });
+                written.addAndGet(batch.size());
+            } catch (RuntimeException e) {
+                failed.addAndGet(batch.size());
+                log.error("로그인 기록 저장 실패 : {}건", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    // 종료 시 남은 기록을 저장
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("login.log.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 로그인 기록 수")
+                .register(registry);
+        Gauge.builder("login.log.queue.capacity", queue, q -> q.size() + q.remainingCapacity())
+                .register(registry);
+        FunctionCounter.builder("login.log.written", written, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("login.log.dropped", dropped, AtomicLong::get)
+                .description("큐가 가득 차 버린 로그인 기록 수")
+                .register(registry);
+        FunctionCounter.builder("login.log.failed", failed, AtomicLong::get)
+                .register(registry);
+    }
+}
@@ -2,13 +2,11 @@ package com.fastcampus.minischeduler.manager;
 
 import com.fastcampus.minischeduler.core.exception.Exception400;
 import com.fastcampus.minischeduler.core.exception.Exception500;
+import com.fastcampus.minischeduler.core.trace.RequestTraceStore;
 import com.fastcampus.minischeduler.manager.exception.AuthException;
 import com.fastcampus.minischeduler.manager.exception.CustomException;
 import com.fastcampus.minischeduler.user.UserResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -22,9 +20,12 @@ import static com.fastcampus.minischeduler.core.exception.ErrorCode.*;
 @RequestMapping("/manager")
 public class ManagerController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final HttpSession session;
 
     private final ManagerService managerService;
+    private final RequestTraceStore requestTraceStore;
 
     /**
      * 로그인 페이지
@@ -79,15 +80,18 @@ public class ManagerController {
     }
 
     /**
-     * 모든 사용자를 조회합니다.
+     * 모든 사용자를 id 순으로 조회합니다(키셋 페이징).
      * @param role 권한
+     * @param cursor 이전 페이지의 next 값(마지막 회원 id), 첫 페이지는 null
+     * @param size 페이지 크기
      * @param model 모델 바인딩
      * @return users.html
      */
     @GetMapping("")
     public String users(
             @RequestParam(name = "role", required = false) String role,
-            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size,
             Model model
     ) {
 
@@ -95,16 +99,19 @@ public class ManagerController {
             throw new AuthException(INVALID_AUTHENTICATION.getMessage());
         if(role != null && (!role.equals("USER") && !role.equals("ADMIN") && !role.equals("ALL")))
             throw new CustomException(INVALID_REQUEST.getMessage());
+        if(cursor != null && cursor < 0)
+            throw new CustomException(INVALID_CURSOR.getMessage());
+        if(size < 1 || size > MAX_PAGE_SIZE)
+            throw new CustomException(INVALID_PAGE_SIZE.getMessage());
 
         try {
-            Page<UserResponse.UserDto> userDtoPage = managerService.getUserListByRole(role, pageable);
-
-            int startPage = Math.max(1, userDtoPage.getPageable().getPageNumber() - 4);
-            int endPage = Math.min(userDtoPage.getPageable().getPageNumber() + 4, userDtoPage.getTotalPages());
+            ManagerResponse.UserPageDTO userPage = managerService.getUserListByRole(role, cursor, size);
 
-            model.addAttribute("startPage", startPage);
-            model.addAttribute("endPage", endPage);
-            model.addAttribute("userList", userDtoPage);
+            model.addAttribute("userList", userPage.getContent());
+            model.addAttribute("next", userPage.getNext());
+            model.addAttribute("role", role == null ? "ALL" : role);
+            model.addAttribute("size", size);
+            model.addAttribute("first", cursor == null);
             return "/users";
         } catch (Exception500 gse) {
             throw new Exception500(gse.getMessage());
@@ -132,4 +139,21 @@ public class ManagerController {
 
         return "redirect:/manager";
     }
+
+    /**
+     * 최근 요청의 처리 시간, SQL 실행 수, 엔티티 로드 수, AES 호출 수를 조회합니다.
+     * @param model 모델 바인딩
+     * @return traces.html
+     */
+    @GetMapping("/traces")
+    public String traces(Model model) {
+
+        if(session.getAttribute("principal") == null)
+            throw new AuthException(INVALID_AUTHENTICATION.getMessage());
+
+        model.addAttribute("statementBudget", requestTraceStore.getStatementBudget());
+        model.addAttribute("overBudgetList", requestTraceStore.getOverBudget());
+        model.addAttribute("traceList", requestTraceStore.getRecent());
+        return "/traces";
+    }
 }
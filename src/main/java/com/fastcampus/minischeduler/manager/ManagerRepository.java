@@ -2,7 +2,6 @@ package com.fastcampus.minischeduler.manager;
 
 import com.fastcampus.minischeduler.user.Role;
 import com.fastcampus.minischeduler.user.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
 
     @Query("SELECT m FROM Manager m WHERE m.username = :username")
@@ -23,6 +24,16 @@ public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("UPDATE User u SET u.role = :role WHERE u.id = :userId")
     void updateRoleByUserId(Long userId, @Param("role") Role role);
 
-    @Query("SELECT u FROM User u WHERE u.role = :role")
-    Page<User> findUsersByRole(@Param("role") Role role, Pageable pageable);
-}
\ No newline at end of file
+    /**
+     * id 가 after 보다 큰 회원을 id 순으로 조회합니다(키셋 페이징). 건수는 limit 의 크기로 제한합니다.
+     * OFFSET 없이 기본키 범위를 읽으므로 뒤쪽 페이지도 첫 페이지와 비용이 같고, count 쿼리도 실행되지 않습니다.
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<User> findUsersAfter(@Param("after") Long after, Pageable limit);
+
+    /**
+     * findUsersAfter 의 권한별 버전입니다. idx_user_role_id(role, id) 로 범위를 읽습니다.
+     */
+    @Query("SELECT u FROM User u WHERE u.role = :role AND u.id > :after ORDER BY u.id")
+    List<User> findUsersByRoleAfter(@Param("role") Role role, @Param("after") Long after, Pageable limit);
+}
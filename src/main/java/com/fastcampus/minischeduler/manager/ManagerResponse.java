@@ -1,9 +1,14 @@
 package com.fastcampus.minischeduler.manager;
 
 import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.UserResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 public class ManagerResponse {
 
     @Getter
@@ -14,4 +19,15 @@ public class ManagerResponse {
         private String email;
         private Role role;
     }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class UserPageDTO {
+
+        private List<UserResponse.UserDto> content;
+
+        // 다음 페이지 커서(마지막 회원 id), 마지막 페이지라면 null
+        private Long next;
+    }
 }
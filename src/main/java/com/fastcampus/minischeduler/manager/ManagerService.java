@@ -1,17 +1,20 @@
 package com.fastcampus.minischeduler.manager;
 
 import com.fastcampus.minischeduler.core.exception.Exception500;
-import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.manager.ManagerResponse.UserPageDTO;
+import com.fastcampus.minischeduler.scheduleradmin.ScheduleDetailCache;
 import com.fastcampus.minischeduler.user.Role;
 import com.fastcampus.minischeduler.user.User;
-import com.fastcampus.minischeduler.user.UserRepository;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
 import com.fastcampus.minischeduler.user.UserResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.fastcampus.minischeduler.core.exception.ErrorCode.FAIL_DECODING;
 
@@ -20,9 +23,10 @@ import static com.fastcampus.minischeduler.core.exception.ErrorCode.FAIL_DECODIN
 public class ManagerService {
 
     private final ManagerRepository managerRepository;
-    private final UserRepository userRepository;
 
-    private final AES256Utils aes256Utils;
+    private final UserIdentityCache userIdentityCache;
+    private final ManagerUserPageCache managerUserPageCache;
+    private final ScheduleDetailCache scheduleDetailCache;
 
     public boolean isNotExistId(String username) {
         return managerRepository.findByUsername(username) == null;
@@ -33,36 +37,58 @@ public class ManagerService {
                 .findByUsernameAndPassword(loginRequestDto.getUsername(), loginRequestDto.getPassword());
     }
 
-    public Page<UserResponse.UserDto> getUserListByRole(String role, Pageable pageable) {
-
-        Page<User> userPage = null;
-
-        if (role == null || role.equals("ALL")) userPage =
-                userRepository.findAll(pageable);
-        if (role != null && !role.equals("ALL")) userPage =
-                managerRepository.findUsersByRole(Role.valueOf(role), pageable);
-
-        return userPage.map(m -> {
-            try {
-                return UserResponse.UserDto.builder()
-                        .id(m.getId())
-                        .email(aes256Utils.decryptAES256(m.getEmail()))
-                        .profileImage(m.getProfileImage())
-                        .role(m.getRole())
-                        .fullName(aes256Utils.decryptAES256(m.getFullName()))
-                        .sizeOfTicket(m.getSizeOfTicket())
-                        .build();
-            } catch (GeneralSecurityException gse) {
-                throw new Exception500(FAIL_DECODING.getMessage());
-            }
+    /**
+     * 관리자 회원 목록 한 페이지를 id 순으로 반환합니다(키셋 페이징).
+     * 복호화된 페이지를 ManagerUserPageCache 에 캐시하므로, 캐시된 페이지는 DB 조회 없이 반환합니다.
+     * @param role : ALL(또는 null), USER, ADMIN
+     * @param cursor : 이전 페이지 응답의 next 값, 첫 페이지는 null
+     * @param size : 페이지 크기
+     */
+    public UserPageDTO getUserListByRole(String role, Long cursor, int size) {
+
+        String filter = role == null ? "ALL" : role;
+        Role userRole = filter.equals("ALL") ? null : Role.valueOf(filter);
+        long after = cursor == null ? 0L : cursor;
+
+        return managerUserPageCache.getPage(filter, after, size, () -> {
+            Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+            List<User> users = userRole == null
+                    ? managerRepository.findUsersAfter(after, limit)
+                    : managerRepository.findUsersByRoleAfter(userRole, after, limit);
+
+            boolean hasNext = users.size() > size;
+            List<User> page = hasNext ? users.subList(0, size) : users;
+
+            return UserPageDTO.builder()
+                    .content(page.stream().map(this::toUserDto).collect(Collectors.toUnmodifiableList()))
+                    .next(hasNext ? page.get(page.size() - 1).getId() : null)
+                    .build();
         });
     }
 
+    private UserResponse.UserDto toUserDto(User user) {
+        try {
+            UserIdentityCache.Identity identity = userIdentityCache.get(user);
+            return UserResponse.UserDto.builder()
+                    .id(user.getId())
+                    .email(identity.getEmail())
+                    .profileImage(user.getProfileImage())
+                    .role(user.getRole())
+                    .fullName(identity.getFullName())
+                    .sizeOfTicket(user.getSizeOfTicket())
+                    .build();
+        } catch (GeneralSecurityException gse) {
+            throw new Exception500(FAIL_DECODING.getMessage());
+        }
+    }
+
     public void updateRoleByUserId(Long userId, String role) {
 
         if (role.equals("USER")) role = "ADMIN";
         else role = "USER";
 
         managerRepository.updateRoleByUserId(userId, Role.valueOf(role));
+        managerUserPageCache.invalidate(); // updateRoleByUserId 에서 이미 커밋됨
+        scheduleDetailCache.evictByOwnerAfterCommit(userId); // 행사 상세에 저장된 작성자 권한 제거
     }
 }
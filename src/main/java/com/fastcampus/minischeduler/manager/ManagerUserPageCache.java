@@ -0,0 +1,90 @@
+package com.fastcampus.minischeduler.manager;
+
+import com.fastcampus.minischeduler.core.utils.LruCache;
+import com.fastcampus.minischeduler.manager.ManagerResponse.UserPageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 회원 목록의 캐시입니다. 권한과 커서(이전 페이지의 마지막 회원 id)별로 복호화된 페이지를 보관합니다.
+ * 권한 변경/회원 정보 수정/가입 시 세대(generation)를 올려 모두 무효화하며,
+ * 무효화 전에 DB 에서 읽기 시작한 결과는 저장하지 않습니다.
+ * 인스턴스마다 따로 가지는 캐시이므로 다른 인스턴스에서의 변경은 ttl-ms 안에 반영됩니다.
+ */
+@Component
+public class ManagerUserPageCache {
+
+    @Value("${my-env.manager-cache.page-cache-size:200}")
+    private int pageCacheSize;
+
+    @Value("${my-env.manager-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final AtomicLong generation = new AtomicLong();
+    private LruCache<String, Entry> pages;
+
+    @PostConstruct
+    public void init() {
+        pages = new LruCache<>(pageCacheSize);
+    }
+
+    /**
+     * 권한(role)의 cursor 다음 페이지를 반환합니다. 캐시에 없으면 loader 로 읽어 저장합니다.
+     * @param cursor : 이전 페이지의 마지막 회원 id, 첫 페이지는 0
+     */
+    public UserPageDTO getPage(String role, long cursor, int size, Supplier<UserPageDTO> loader) {
+
+        String key = role + ":" + cursor + ":" + size;
+        long now = System.currentTimeMillis();
+        long currentGeneration = generation.get();
+        Entry entry = pages.get(key);
+        if (entry != null && entry.generation == currentGeneration && entry.expiresAt > now) return entry.value;
+
+        UserPageDTO value = loader.get();
+        // 읽는 동안 무효화되었다면 이전 값일 수 있으므로 저장하지 않음
+        if (generation.get() == currentGeneration) pages.put(key, new Entry(value, currentGeneration, now + ttlMs));
+
+        return value;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 캐시를 비웁니다. 트랜잭션 밖이면 바로 비웁니다.
+     */
+    public void invalidateAfterCommit() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        pages.clear();
+    }
+
+    private static class Entry {
+
+        private final UserPageDTO value;
+        private final long generation;
+        private final long expiresAt;
+
+        private Entry(UserPageDTO value, long generation, long expiresAt) {
+            this.value = value;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class LoggerInterceptor implements HandlerInterceptor {
     ) throws Exception {
         log.debug("=====================================");
         log.debug("============== BEGIN ================");
-        log.debug("Request URI ===> " + request.getRequestURI());
+        log.debug("Request URI ===> {}", request.getRequestURI());
         return HandlerInterceptor.super.preHandle(request, response, handler);
     }
 
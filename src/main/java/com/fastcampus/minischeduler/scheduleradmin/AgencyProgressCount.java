@@ -0,0 +1,41 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 기획사별 티켓 승인 현황 카운터입니다. 신청/취소/승인/거절과 같은 트랜잭션에서 증감됩니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "agency_progress_count_tb")
+@Entity
+public class AgencyProgressCount {
+
+    @Id
+    private Long agencyId; // 기획사 user id
+
+    @Column(nullable = false)
+    private Integer waiting;
+
+    @Column(nullable = false)
+    private Integer accepted;
+
+    @Column(nullable = false)
+    private Integer refused;
+
+    @Builder
+    public AgencyProgressCount(Long agencyId, Integer waiting, Integer accepted, Integer refused) {
+        this.agencyId = agencyId;
+        this.waiting = waiting;
+        this.accepted = accepted;
+        this.refused = refused;
+    }
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface AgencyProgressCountRepository extends JpaRepository<AgencyProgressCount, Long> {
+
+    /**
+     * 카운터를 조회하고 행을 잠급니다(SELECT ... FOR UPDATE).
+     * 재집계하는 동안 증감분(add)이 끼어들지 못하게 집계 전에 호출합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM AgencyProgressCount c WHERE c.agencyId = :agencyId")
+    Optional<AgencyProgressCount> findByIdForUpdate(@Param("agencyId") Long agencyId);
+
+    /**
+     * 빈 카운터를 만듭니다. 이미 있으면 DataIntegrityViolationException
+     * merge(save) 와 달리 먼저 SELECT 하지 않으므로, 같은 트랜잭션의 다음 조회가 INSERT 이후 시점을 읽습니다.
+     */
+    @Modifying
+    @Query(
+            value = "INSERT INTO agency_progress_count_tb (agency_id, waiting, accepted, refused) " +
+                    "VALUES (:agencyId, 0, 0, 0)",
+            nativeQuery = true
+    )
+    int insertEmpty(@Param("agencyId") Long agencyId);
+
+    /**
+     * 카운터에 증감분을 더합니다.
+     * @return 변경된 행 수 : 0 이면 아직 카운터가 없음
+     */
+    @Modifying
+    @Query(
+            "UPDATE AgencyProgressCount c SET " +
+                    "c.waiting = c.waiting + :waiting, " +
+                    "c.accepted = c.accepted + :accepted, " +
+                    "c.refused = c.refused + :refused " +
+            "WHERE c.agencyId = :agencyId"
+    )
+    int add(
+            @Param("agencyId") Long agencyId,
+            @Param("waiting") int waiting,
+            @Param("accepted") int accepted,
+            @Param("refused") int refused
+    );
+}
@@ -0,0 +1,49 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 행사(기획사 일정)별 티켓 승인 현황 카운터입니다. 행사가 삭제되면 함께 삭제됩니다.
+ * 화면에 보여주지는 않고, 행사를 삭제할 때 기획사 카운터에서 뺄 값을 집계 없이 읽는 데만 씁니다. (기본키 조회)
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "event_progress_count_tb")
+@Entity
+public class EventProgressCount {
+
+    @Id
+    private Long schedulerAdminId;
+
+    @Column(nullable = false)
+    private Long agencyId;
+
+    @Column(nullable = false)
+    private Integer waiting;
+
+    @Column(nullable = false)
+    private Integer accepted;
+
+    @Column(nullable = false)
+    private Integer refused;
+
+    @Builder
+    public EventProgressCount(
+            Long schedulerAdminId,
+            Long agencyId,
+            Integer waiting,
+            Integer accepted,
+            Integer refused
+    ) {
+        this.schedulerAdminId = schedulerAdminId;
+        this.agencyId = agencyId;
+        this.waiting = waiting;
+        this.accepted = accepted;
+        this.refused = refused;
+    }
+}
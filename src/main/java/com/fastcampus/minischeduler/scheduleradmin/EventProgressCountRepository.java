@@ -0,0 +1,28 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventProgressCountRepository extends JpaRepository<EventProgressCount, Long> {
+
+    /**
+     * 카운터에 증감분을 더합니다.
+     * @return 변경된 행 수 : 0 이면 아직 카운터가 없음
+     */
+    @Modifying
+    @Query(
+            "UPDATE EventProgressCount c SET " +
+                    "c.waiting = c.waiting + :waiting, " +
+                    "c.accepted = c.accepted + :accepted, " +
+                    "c.refused = c.refused + :refused " +
+            "WHERE c.schedulerAdminId = :schedulerAdminId"
+    )
+    int add(
+            @Param("schedulerAdminId") Long schedulerAdminId,
+            @Param("waiting") int waiting,
+            @Param("accepted") int accepted,
+            @Param("refused") int refused
+    );
+}
@@ -0,0 +1,218 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.core.config.AsyncConfig;
+import com.fastcampus.minischeduler.scheduleruser.Progress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.ImplCountProcessDTO;
+
+/**
+ * 기획사/행사별 티켓 승인 현황(WAITING/ACCEPT/REFUSE) 카운터를 관리합니다.
+ * 신청/취소/승인/거절 시 같은 트랜잭션에서 증감분만 UPDATE 하므로, 조회는 기본키 한 건 읽기로 끝납니다.
+ * 카운터가 없으면 조회 시 scheduler_user_tb 를 집계해 만들고, 매일 새벽 전체를 재집계해 어긋난 값을 바로잡습니다.
+ * 교착을 피하도록 증감과 재집계 모두 기획사 카운터를 먼저, 행사 카운터를 나중에 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgressCountService {
+
+    private final AgencyProgressCountRepository agencyProgressCountRepository;
+    private final EventProgressCountRepository eventProgressCountRepository;
+    private final SchedulerAdminRepository schedulerAdminRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate newTransaction; // 읽기 전용 트랜잭션에서 호출돼도 재집계 결과를 저장하기 위함
+
+    /**
+     * 재집계용 projection
+     */
+    public interface EventProgress {
+        Long getSchedulerAdminId();
+        Progress getProgress(); // 신청이 없는 행사는 null
+        Long getCount();
+    }
+
+    @PostConstruct
+    public void init() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 행사가 등록되면 빈 카운터를 만듭니다.
+     */
+    @Transactional
+    public void createEvent(Long schedulerAdminId, Long agencyId) {
+        eventProgressCountRepository.save(
+                EventProgressCount.builder()
+                        .schedulerAdminId(schedulerAdminId)
+                        .agencyId(agencyId)
+                        .waiting(0)
+                        .accepted(0)
+                        .refused(0)
+                        .build()
+        );
+    }
+
+    /**
+     * 티켓 상태 변경을 카운터에 반영합니다. 호출한 트랜잭션과 함께 커밋됩니다.
+     * 카운터가 아직 없으면 건너뛰며, 다음 조회 때 집계로 만들어집니다.
+     * @param from : 변경 전 상태, 신규 신청이면 null
+     * @param to   : 변경 후 상태, 취소면 null
+     */
+    @Transactional
+    public void record(Long schedulerAdminId, Long agencyId, Progress from, Progress to) {
+
+        int waiting = delta(Progress.WAITING, from, to);
+        int accepted = delta(Progress.ACCEPT, from, to);
+        int refused = delta(Progress.REFUSE, from, to);
+
+        agencyProgressCountRepository.add(agencyId, waiting, accepted, refused);
+        eventProgressCountRepository.add(schedulerAdminId, waiting, accepted, refused);
+    }
+
+    /**
+     * 여러 행사의 티켓 상태 변경을 한 번에 반영합니다. 기획사 카운터는 합계로 한 번만 갱신합니다.
+     * @param countsByEvent : schedulerAdminId -> 상태가 바뀐 티켓 수
+     */
+    @Transactional
+    public void recordAll(Long agencyId, Map<Long, Integer> countsByEvent, Progress from, Progress to) {
+
+        int waiting = delta(Progress.WAITING, from, to);
+        int accepted = delta(Progress.ACCEPT, from, to);
+        int refused = delta(Progress.REFUSE, from, to);
+
+        int total = countsByEvent.values().stream().mapToInt(Integer::intValue).sum();
+        if (total == 0) return;
+
+        agencyProgressCountRepository.add(agencyId, waiting * total, accepted * total, refused * total);
+        for (Map.Entry<Long, Integer> entry : countsByEvent.entrySet()) {
+            int count = entry.getValue();
+            eventProgressCountRepository.add(entry.getKey(), waiting * count, accepted * count, refused * count);
+        }
+    }
+
+    /**
+     * 행사가 삭제되면 행사 카운터를 지우고 기획사 카운터에서 뺍니다.
+     * 행사 카운터가 없으면 뺄 값을 모르므로 기획사 카운터를 지워 다음 조회 때 다시 집계합니다.
+     */
+    @Transactional
+    public void removeEvent(Long schedulerAdminId, Long agencyId) {
+
+        eventProgressCountRepository.findById(schedulerAdminId).ifPresentOrElse(
+                count -> {
+                    agencyProgressCountRepository.add(
+                            agencyId,
+                            -count.getWaiting(),
+                            -count.getAccepted(),
+                            -count.getRefused()
+                    );
+                    eventProgressCountRepository.delete(count);
+                },
+                () -> agencyProgressCountRepository.findById(agencyId)
+                        .ifPresent(agencyProgressCountRepository::delete)
+        );
+    }
+
+    /**
+     * 기획사의 승인 현황을 반환합니다.
+     */
+    public ImplCountProcessDTO getAgencyCount(Long agencyId) {
+
+        AgencyProgressCount count = agencyProgressCountRepository.findById(agencyId)
+                .orElseGet(() -> reconcile(agencyId));
+
+        return new ImplCountProcessDTO(count.getWaiting(), count.getAccepted(), count.getRefused());
+    }
+
+    /**
+     * 매일 새벽 모든 기획사의 카운터를 집계 결과로 덮어씁니다.
+     * 스케줄러 스레드는 하나뿐이므로, 로그인 기록 flush 등 다른 주기 작업이 밀리지 않도록 배치 작업 풀에서 실행합니다.
+     */
+    @Async(AsyncConfig.BATCH_TASK_EXECUTOR)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void reconcileAll() {
+
+        long startedAt = System.currentTimeMillis();
+        List<Long> agencyIds = schedulerAdminRepository.findAllAgencyIds();
+        for (Long agencyId : agencyIds) {
+            try {
+                reconcile(agencyId);
+            } catch (RuntimeException e) {
+                log.error("승인 현황 재집계 실패 : agencyId={}", agencyId, e);
+            }
+        }
+        log.info("승인 현황 재집계 : 기획사 {}곳, {}ms", agencyIds.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 기획사와 소속 행사의 카운터를 scheduler_user_tb 집계로 다시 만듭니다.
+     * 집계 전에 기획사 카운터 행을 잠그므로(없으면 INSERT 로 잠금),
+     * 그 전에 커밋된 증감분은 집계에 포함되고 이후의 증감분은 덮어쓴 값 위에 더해집니다.
+     * MySQL(REPEATABLE READ)은 첫 일반 SELECT 시점의 스냅샷을 읽으므로, 잠금 전에는 다른 조회를 하지 않아야 합니다.
+     */
+    private AgencyProgressCount reconcile(Long agencyId) {
+        try {
+            return newTransaction.execute(status -> {
+
+                if (agencyProgressCountRepository.findByIdForUpdate(agencyId).isEmpty())
+                    agencyProgressCountRepository.insertEmpty(agencyId);
+
+                Map<Long, Map<Progress, Integer>> eventCounts = new HashMap<>(); // schedulerAdminId -> 상태별 티켓 수
+                for (EventProgress row : schedulerAdminRepository.countProgressGroupByEvent(agencyId)) {
+                    Map<Progress, Integer> counts = eventCounts.computeIfAbsent(
+                            row.getSchedulerAdminId(),
+                            id -> new EnumMap<>(Progress.class)
+                    );
+                    if (row.getProgress() != null) counts.merge(row.getProgress(), row.getCount().intValue(), Integer::sum);
+                }
+
+                Map<Progress, Integer> total = new EnumMap<>(Progress.class);
+                eventCounts.forEach((schedulerAdminId, counts) -> {
+                    counts.forEach((progress, count) -> total.merge(progress, count, Integer::sum));
+                    eventProgressCountRepository.save(
+                            EventProgressCount.builder()
+                                    .schedulerAdminId(schedulerAdminId)
+                                    .agencyId(agencyId)
+                                    .waiting(counts.getOrDefault(Progress.WAITING, 0))
+                                    .accepted(counts.getOrDefault(Progress.ACCEPT, 0))
+                                    .refused(counts.getOrDefault(Progress.REFUSE, 0))
+                                    .build()
+                    );
+                });
+
+                return agencyProgressCountRepository.save(
+                        AgencyProgressCount.builder()
+                                .agencyId(agencyId)
+                                .waiting(total.getOrDefault(Progress.WAITING, 0))
+                                .accepted(total.getOrDefault(Progress.ACCEPT, 0))
+                                .refused(total.getOrDefault(Progress.REFUSE, 0))
+                                .build()
+                );
+            });
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) { // 동시에 다른 요청이 먼저 만든 경우
+            return agencyProgressCountRepository.findById(agencyId).orElseThrow();
+        }
+    }
+
+    private static int delta(Progress progress, Progress from, Progress to) {
+        return (progress == to ? 1 : 0) - (progress == from ? 1 : 0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.core.exception.ErrorCode;
+import com.fastcampus.minischeduler.core.exception.Exception400;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 키셋(커서) 페이징의 위치 정보입니다.
+ * (scheduleStart, id) 순으로 정렬된 목록에서 마지막으로 내려준 일정의 값을 담고,
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScheduleCursor {
+
+    // 첫 페이지 : DATETIME 최소값보다 뒤에 있는 모든 일정
+    public static final ScheduleCursor FIRST = new ScheduleCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime scheduleStart;
+    private final Long id;
+
+    public static ScheduleCursor of(SchedulerAdmin schedulerAdmin) {
+        return new ScheduleCursor(schedulerAdmin.getScheduleStart(), schedulerAdmin.getId());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. null 이거나 비어있으면 첫 페이지를 반환합니다.
+     * @throws Exception400 형식이 올바르지 않은 경우
+     */
+    public static ScheduleCursor decode(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) return FIRST;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.lastIndexOf(DELIMITER);
+            return new ScheduleCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new Exception400("cursor", ErrorCode.INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((scheduleStart + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
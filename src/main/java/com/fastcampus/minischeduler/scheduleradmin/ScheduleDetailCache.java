@@ -0,0 +1,279 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.core.utils.LruCache;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 행사 상세 정보의 read-through 캐시입니다. 로컬 near-cache -> Redis -> DB 순서로 조회합니다.
+ * 작성자의 이름/이메일은 DB 와 같이 암호화된 채로 저장하며, 복호화는 UserIdentityCache 가 맡습니다.
+ * 작성자 정보도 함께 저장하므로, 작성자의 프로필이나 권한이 바뀌면 그 작성자의 행사를 모두 지웁니다(evictByOwnerAfterCommit).
+ * 다른 인스턴스의 near-cache 는 지울 수 없으므로 near-cache 의 TTL 을 짧게 두어 수정이 늦게 보이는 시간을 제한합니다.
+ * 지울 때는 키를 삭제하는 대신 evict-guard-ms 동안 삭제 표시(TOMBSTONE)를 남기고, 조회 결과는 키가 없을 때만(SET NX) 저장합니다.
+ * 수정 전에 DB 를 읽은 요청이 커밋 후 삭제보다 늦게 저장하더라도 수정 전 값이 ttl-seconds 동안 남지 않습니다.
+ * Redis 에 장애가 나면 retry-interval-ms 동안 Redis 를 건너뛰고 DB 에서 바로 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleDetailCache {
+
+    private static final String KEY_PREFIX = "schedule:detail:";
+    private static final String TOMBSTONE = "-"; // 삭제 표시, JSON 이 아니므로 값과 구분됨
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SchedulerAdminRepository schedulerAdminRepository;
+
+    @Value("${my-env.schedule-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${my-env.schedule-cache.near-cache-size:1000}")
+    private int nearCacheSize;
+
+    @Value("${my-env.schedule-cache.near-cache-ttl-ms:5000}")
+    private long nearCacheTtlMs;
+
+    @Value("${my-env.schedule-cache.retry-interval-ms:30000}")
+    private long retryIntervalMs;
+
+    @Value("${my-env.schedule-cache.evict-guard-ms:5000}")
+    private long evictGuardMs;
+
+    private LruCache<Long, NearEntry> nearCache;
+    private volatile long redisDisabledUntil; // 이 시각(ms) 전까지는 Redis 를 사용하지 않음
+
+    @PostConstruct
+    public void init() {
+        nearCache = new LruCache<>(nearCacheSize);
+    }
+
+    /**
+     * 행사 상세 정보를 반환합니다. 캐시에 없으면 loader 로 읽어 캐시에 저장합니다.
+     * @param id : 행사 id
+     * @param loader : DB 조회, 행사가 없으면 예외를 던짐
+     */
+    public Detail get(Long id, Function<Long, Detail> loader) {
+
+        long now = System.currentTimeMillis();
+        NearEntry nearEntry = nearCache.get(id);
+        if (nearEntry != null && nearEntry.expiresAt > now) return nearEntry.detail;
+
+        Detail detail = readRedis(id);
+        if (detail == null) {
+            detail = loader.apply(id);
+            // 저장하지 못했다면(삭제 표시) 읽은 값이 수정 전일 수 있으므로 near-cache 에도 두지 않음
+            if (!writeRedis(id, detail)) return detail;
+        }
+        nearCache.put(id, new NearEntry(detail, now + nearCacheTtlMs));
+
+        return detail;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 캐시에서 행사를 지웁니다. 커밋 전에 지우면 다른 요청이 수정 전 값을 다시 채울 수 있습니다.
+     * 커밋 전에 수정 전 값을 읽은 요청은 삭제 표시 때문에 저장하지 못합니다.
+     */
+    public void evictAfterCommit(Long id) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 작성자(userId)의 행사를 캐시에서 모두 지웁니다.
+     * 작성자의 이름/프로필 이미지/권한이 바뀌면 호출합니다.
+     */
+    public void evictByOwnerAfterCommit(Long userId) {
+        evictAllAfterCommit(schedulerAdminRepository.findIdsByUserId(userId));
+    }
+
+    private void evictAllAfterCommit(Collection<Long> ids) {
+
+        if (ids.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAll(ids);
+            }
+        });
+    }
+
+    public void evict(Long id) {
+
+        nearCache.remove(id);
+        if (isRedisDisabled()) return;
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + id, TOMBSTONE, Duration.ofMillis(evictGuardMs));
+        } catch (DataAccessException dae) {
+            disableRedis(dae);
+        }
+    }
+
+    // 작성자의 행사 수만큼 왕복하지 않도록 파이프라인으로 한 번에 보냄
+    private void evictAll(Collection<Long> ids) {
+
+        ids.forEach(nearCache::remove);
+        if (isRedisDisabled()) return;
+        byte[] tombstone = TOMBSTONE.getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.milliseconds(evictGuardMs);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long id : ids) {
+                    connection.stringCommands().set(
+                            (KEY_PREFIX + id).getBytes(StandardCharsets.UTF_8),
+                            tombstone,
+                            expiration,
+                            RedisStringCommands.SetOption.upsert()
+                    );
+                }
+                return null;
+            });
+        } catch (DataAccessException dae) {
+            disableRedis(dae);
+        }
+    }
+
+    private Detail readRedis(Long id) {
+
+        if (isRedisDisabled()) return null;
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + id);
+            return json == null || json.equals(TOMBSTONE) ? null : objectMapper.readValue(json, Detail.class);
+        } catch (DataAccessException dae) {
+            disableRedis(dae);
+        } catch (JsonProcessingException jpe) { // 필드가 바뀌기 전에 저장된 값 등은 무시하고 다시 읽음
+            log.warn("행사 상세 캐시 역직렬화 실패 : id={}", id, jpe);
+        }
+        return null;
+    }
+
+    /**
+     * 키가 없을 때만 저장합니다.
+     * @return 키가 있어(삭제 표시 또는 다른 요청이 먼저 저장) 저장하지 못했으면 false, Redis 를 쓸 수 없으면 true
+     */
+    private boolean writeRedis(Long id, Detail detail) {
+
+        if (isRedisDisabled()) return true;
+        try {
+            Boolean stored = redisTemplate.opsForValue().setIfAbsent(
+                    KEY_PREFIX + id,
+                    objectMapper.writeValueAsString(detail),
+                    Duration.ofSeconds(ttlSeconds)
+            );
+            return Boolean.TRUE.equals(stored);
+        } catch (DataAccessException dae) {
+            disableRedis(dae);
+        } catch (JsonProcessingException jpe) {
+            log.warn("행사 상세 캐시 직렬화 실패 : id={}", id, jpe);
+        }
+        return true;
+    }
+
+    private boolean isRedisDisabled() {
+        return System.currentTimeMillis() < redisDisabledUntil;
+    }
+
+    private void disableRedis(DataAccessException dae) {
+        redisDisabledUntil = System.currentTimeMillis() + retryIntervalMs;
+        log.warn("Redis 를 사용할 수 없어 {}ms 동안 DB 에서 바로 조회합니다 : {}", retryIntervalMs, dae.getMessage());
+    }
+
+    /**
+     * 캐시에 저장하는 행사 상세 정보입니다. 작성자 이름/이메일은 암호화된 값입니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Detail {
+
+        private Long id;
+        private LocalDateTime scheduleStart;
+        private LocalDateTime scheduleEnd;
+        private String title;
+        private String description;
+        private String image;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        // 작성자(기획사)
+        private Long userId;
+        private String userEmail;
+        private String userFullName;
+        private int userSizeOfTicket;
+        private Role userRole;
+        private String userProfileImage;
+        private LocalDateTime userUpdatedAt; // UserIdentityCache 의 버전
+
+        public static Detail of(SchedulerAdmin scheduler) {
+
+            User user = scheduler.getUser();
+
+            return Detail.builder()
+                    .id(scheduler.getId())
+                    .scheduleStart(scheduler.getScheduleStart())
+                    .scheduleEnd(scheduler.getScheduleEnd())
+                    .title(scheduler.getTitle())
+                    .description(scheduler.getDescription())
+                    .image(scheduler.getImage())
+                    .createdAt(scheduler.getCreatedAt())
+                    .updatedAt(scheduler.getUpdatedAt())
+                    .userId(user.getId())
+                    .userEmail(user.getEmail())
+                    .userFullName(user.getFullName())
+                    .userSizeOfTicket(user.getSizeOfTicket())
+                    .userRole(user.getRole())
+                    .userProfileImage(user.getProfileImage())
+                    .userUpdatedAt(user.getUpdatedAt())
+                    .build();
+        }
+    }
+
+    private static class NearEntry {
+
+        private final Detail detail;
+        private final long expiresAt;
+
+        private NearEntry(Detail detail, long expiresAt) {
+            this.detail = detail;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
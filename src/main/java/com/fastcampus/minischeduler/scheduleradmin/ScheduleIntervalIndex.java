@@ -0,0 +1,390 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 기획사 일정의 (시작, 종료) 구간을 메모리에 들고 있는 interval tree 입니다.
+ * [from, to) 구간과 겹치는 일정 id 를 O(log n + k) 로 찾으며, 여러 달에 걸친 일정도 중간 달에서 조회됩니다.
+ * 일정 등록/수정/삭제가 커밋되면 반영하고 Redis 채널(CHANNEL)로 일정 id 를 알립니다.
+ * 다른 인스턴스는 알림을 받으면 해당 일정을 DB 에서 다시 읽어 반영하며, Redis 장애로 놓친 알림은 주기적인 재적재로 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleIntervalIndex implements MessageListener {
+
+    public static final String CHANNEL = "schedule:interval";
+
+    private final SchedulerAdminRepository schedulerAdminRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString(); // 자신이 보낸 알림은 무시
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Tree tree; // 적재 전에는 null
+    private List<Consumer<Tree>> pending; // 재적재 중 커밋된 변경, 재적재가 끝나면 새 트리에 다시 적용
+
+    /**
+     * 인덱스 적재용 projection
+     */
+    public interface Interval {
+        Long getId();
+        Long getUserId();
+        LocalDateTime getScheduleStart();
+        LocalDateTime getScheduleEnd();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * DB 에서 전체 구간을 다시 읽어 인덱스를 교체합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${my-env.schedule-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${my-env.schedule-index.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+
+        long startedAt = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Tree rebuilt = new Tree();
+        for (Interval interval : schedulerAdminRepository.findAllIntervals())
+            rebuilt.put(
+                    interval.getId(),
+                    interval.getUserId(),
+                    interval.getScheduleStart(),
+                    interval.getScheduleEnd()
+            );
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(mutation -> mutation.accept(rebuilt));
+            pending = null;
+            tree = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("일정 구간 인덱스 적재 : {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isLoaded() {
+
+        lock.readLock().lock();
+        try {
+            return tree != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 일정 id 를 (시작일, id) 순으로 반환합니다.
+     * 종료일이 없는 일정은 시작 시각에만 존재하는 것으로 봅니다.
+     */
+    public List<Long> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        return findOverlapping(null, from, to);
+    }
+
+    /**
+     * 기획사(userId)의 일정 중 [from, to) 구간과 겹치는 일정 id 를 (시작일, id) 순으로 반환합니다.
+     * @param userId : null 이면 모든 기획사
+     */
+    public List<Long> findOverlapping(Long userId, LocalDateTime from, LocalDateTime to) {
+
+        lock.readLock().lock();
+        try {
+            if (tree == null) throw new IllegalStateException("schedule interval index is not loaded");
+
+            return tree.overlapping(userId, from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 일정의 구간을 등록(수정)합니다.
+     */
+    public void putAfterCommit(SchedulerAdmin schedulerAdmin) {
+
+        Long id = schedulerAdmin.getId();
+        Long userId = schedulerAdmin.getUser().getId();
+        LocalDateTime start = schedulerAdmin.getScheduleStart();
+        LocalDateTime end = schedulerAdmin.getScheduleEnd();
+
+        afterCommit(() -> {
+            write(tree -> tree.put(id, userId, start, end));
+            publish(id);
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 일정의 구간을 제거합니다.
+     */
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> {
+            write(tree -> tree.remove(id));
+            publish(id);
+        });
+    }
+
+    /**
+     * 다른 인스턴스가 변경한 일정을 DB 에서 다시 읽어 반영합니다. 알림이 커밋 후에 발행되므로 변경된 값이 보입니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) return;
+
+        Long id = Long.valueOf(body.substring(separator + 1));
+        Optional<Interval> interval = schedulerAdminRepository.findIntervalById(id);
+        if (interval.isPresent())
+            write(tree -> tree.put(
+                    id,
+                    interval.get().getUserId(),
+                    interval.get().getScheduleStart(),
+                    interval.get().getScheduleEnd()
+            ));
+        else write(tree -> tree.remove(id));
+    }
+
+    private void publish(Long id) {
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + id);
+        } catch (DataAccessException dae) {
+            log.warn("일정 구간 변경 알림 실패, 다른 인스턴스는 재적재 때 반영됩니다 : id={}, {}", id, dae.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void write(Consumer<Tree> mutation) {
+
+        lock.writeLock().lock();
+        try {
+            if (tree != null) mutation.accept(tree);
+            if (pending != null) pending.add(mutation);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * (시작일, id) 를 키로 하는 AVL 트리. 각 노드는 서브트리의 최대 종료일(maxEnd)을 가집니다.
+     */
+    static final class Tree {
+
+        private Node root;
+        private final Map<Long, Node> byId = new HashMap<>();
+
+        int size() {
+            return byId.size();
+        }
+
+        void put(Long id, Long userId, LocalDateTime start, LocalDateTime end) {
+
+            remove(id);
+
+            // 종료일이 없거나 시작일보다 이르면 시작 시각에만 존재하는 것으로 봄
+            Node node = new Node(id, userId, start, end == null || end.isBefore(start) ? start : end);
+            root = insert(root, node);
+            byId.put(id, node);
+        }
+
+        void remove(Long id) {
+
+            Node node = byId.remove(id);
+            if (node != null) root = delete(root, node);
+        }
+
+        /**
+         * [from, to) 와 겹치는 일정 id 를 (시작일, id) 순으로 반환합니다.
+         * 일정 [start, end) 는 start < to 이고 end > from 일 때 겹치며, 시작 시각에만 존재하는 일정은 from <= start < to 일 때 겹칩니다.
+         * DB 조회(SchedulerAdminRepository 의 *Overlapping)와 같은 조건입니다.
+         */
+        List<Long> overlapping(Long userId, LocalDateTime from, LocalDateTime to) {
+
+            List<Long> ids = new ArrayList<>();
+            collect(root, userId, from, to, ids);
+            return ids;
+        }
+
+        private void collect(Node node, Long userId, LocalDateTime from, LocalDateTime to, List<Long> ids) {
+
+            // 서브트리의 모든 일정이 from 이전에 끝났다면 볼 필요가 없음 (end >= start 이므로 start 도 from 이전)
+            if (node == null || node.maxEnd.isBefore(from)) return;
+
+            collect(node.left, userId, from, to, ids);
+
+            // 오른쪽 서브트리는 시작일이 더 늦으므로 함께 건너뜀
+            if (!node.start.isBefore(to)) return;
+
+            if ((node.end.isAfter(from) || !node.start.isBefore(from)) && (userId == null || userId.equals(node.userId)))
+                ids.add(node.id);
+
+            collect(node.right, userId, from, to, ids);
+        }
+
+        private static int compare(Node a, Node b) {
+
+            int result = a.start.compareTo(b.start);
+            return result != 0 ? result : Long.compare(a.id, b.id);
+        }
+
+        private static Node insert(Node node, Node inserted) {
+
+            if (node == null) return inserted;
+
+            if (compare(inserted, node) < 0) node.left = insert(node.left, inserted);
+            else node.right = insert(node.right, inserted);
+
+            return balance(node);
+        }
+
+        private static Node delete(Node node, Node deleted) {
+
+            if (node == null) return null;
+
+            int result = compare(deleted, node);
+            if (result < 0) {
+                node.left = delete(node.left, deleted);
+                return balance(node);
+            }
+            if (result > 0) {
+                node.right = delete(node.right, deleted);
+                return balance(node);
+            }
+
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+
+            Node successor = node.right;
+            while (successor.left != null) successor = successor.left;
+
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+
+        private static Node deleteMin(Node node) {
+
+            if (node.left == null) return node.right;
+
+            node.left = deleteMin(node.left);
+            return balance(node);
+        }
+
+        private static Node balance(Node node) {
+
+            update(node);
+
+            int factor = height(node.left) - height(node.right);
+            if (factor > 1) {
+                if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+                return rotateRight(node);
+            }
+            if (factor < -1) {
+                if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private static Node rotateRight(Node node) {
+
+            Node left = node.left;
+            node.left = left.right;
+            left.right = node;
+            update(node);
+            update(left);
+            return left;
+        }
+
+        private static Node rotateLeft(Node node) {
+
+            Node right = node.right;
+            node.right = right.left;
+            right.left = node;
+            update(node);
+            update(right);
+            return right;
+        }
+
+        private static void update(Node node) {
+
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+
+            LocalDateTime maxEnd = node.end;
+            if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) maxEnd = node.left.maxEnd;
+            if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) maxEnd = node.right.maxEnd;
+            node.maxEnd = maxEnd;
+        }
+
+        private static int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+
+    private static final class Node {
+
+        private final long id;
+        private final Long userId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private LocalDateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, Long userId, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.userId = userId;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
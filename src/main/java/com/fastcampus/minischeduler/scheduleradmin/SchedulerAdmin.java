@@ -13,7 +13,15 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "scheduler_admin_tb")
+@Table(
+        name = "scheduler_admin_tb",
+        indexes = {
+                @Index(name = "idx_scheduler_admin_start_id", columnList = "scheduleStart, id"), // 키셋 페이징의 정렬 순서
+                @Index(name = "idx_scheduler_admin_end_start", columnList = "scheduleEnd, scheduleStart"),
+                @Index(name = "idx_scheduler_admin_user_start", columnList = "user_id, scheduleStart"),
+                @Index(name = "idx_scheduler_admin_user_end", columnList = "user_id, scheduleEnd")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class SchedulerAdmin { // 기획사 일정
@@ -1,49 +1,59 @@
 package com.fastcampus.minischeduler.scheduleradmin;
 
-import com.fastcampus.minischeduler.core.auth.jwt.JwtTokenProvider;
+import com.fastcampus.minischeduler.core.annotation.LoginUser;
 import com.fastcampus.minischeduler.core.dto.ResponseDTO;
 import com.fastcampus.minischeduler.core.exception.*;
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminRequest.ConfirmRequestDto;
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminRequest.SchedulerAdminRequestDto;
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.SchedulerAdminResponseDto;
 import com.fastcampus.minischeduler.scheduleruser.Progress;
-import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
-import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRepository;
-import com.fastcampus.minischeduler.user.User;
 import com.fastcampus.minischeduler.user.UserResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/admin")
 @RequiredArgsConstructor
 public class SchedulerAdminController {
 
-    private final SchedulerUserRepository schedulerUserRepository;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CONFIRM_SIZE = 500; // 일괄 결재 시 한 번에 처리할 수 있는 티켓 수
+
     private final SchedulerAdminService schedulerAdminService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 기획사 일정 조회페이지(메인) : 모든 기획사의 일정이 나옴
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param year : 년도
      * @param month : 달
+     * @param from : 조회 시작일(포함, yyyy-MM-dd) - 주간 / 임의 기간 조회
+     * @param to : 조회 종료일(미포함, yyyy-MM-dd)
+     * @param cursor : 이전 페이지 응답의 next 커서
+     * @param size : 페이지 크기
      * @return  모든 기획사의 등록된 행사를 담은 schedulerAdminResponseDtoList
-     * @throws Exception400 요청이 잘못된 경우 올바르지 않은 년도 또는 달
+     *          from, to가 있으면 해당 기간과 겹치는 행사 목록
+     *          cursor 또는 size가 있으면 한 페이지와 next 커서를 담은 SchedulerAdminPageDto
+     * @throws Exception400 요청이 잘못된 경우 올바르지 않은 년도 또는 달 / 기간 / 커서 / 페이지 크기
      * @throws Exception500 디코딩에 실패한 경우
      */
     @GetMapping("/scheduleAll")
-    public ResponseEntity<List<SchedulerAdminResponseDto>> schedulerList (
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+    public ResponseEntity<?> schedulerList (
+            @LoginUser Long loginUserId,
             @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Integer month
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
 
         List<SchedulerAdminResponseDto> schedulerAdminResponseDtoList;
@@ -53,8 +63,26 @@ public class SchedulerAdminController {
             throw new Exception400("year", ErrorCode.INVALID_YEAR.getMessage());
         if (month != null && (month < 1 || month > 12))
             throw new Exception400("month", ErrorCode.INVALID_MONTH.getMessage());
+        if (size != null && (size < 1 || size > MAX_PAGE_SIZE))
+            throw new Exception400("size", ErrorCode.INVALID_PAGE_SIZE.getMessage());
+        if ((from == null) != (to == null) || (from != null && !from.isBefore(to)))
+            throw new Exception400("to", ErrorCode.INVALID_DATE_RANGE.getMessage());
 
         try {
+            if (from != null)
+                return ResponseEntity.ok(
+                        schedulerAdminService.getSchedulerListBetween(from.atStartOfDay(), to.atStartOfDay())
+                );
+
+            // cursor 또는 size가 있으면 커서 페이징으로 응답
+            if (cursor != null || size != null)
+                return ResponseEntity.ok(schedulerAdminService.getSchedulerPage(
+                        cursor,
+                        size == null ? DEFAULT_PAGE_SIZE : size,
+                        year,
+                        month
+                ));
+
             if (year != null && month != null)
                 schedulerAdminResponseDtoList = schedulerAdminService.getSchedulerListByYearAndMonth(year, month);
             else
@@ -68,28 +96,45 @@ public class SchedulerAdminController {
 
     /**
      * 공연 등록/취소 페이지 : 로그인한 기획사가 등록한 일정만 나옴
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param year : 년도
      * @param month : 달
+     * @param cursor : 이전 페이지 응답의 next 커서
+     * @param size : 페이지 크기
      * @return 기획사가 등록한 일정을 년도와 달에 맞는 행사 + 모든 행사를 포함한 Map 객체
-     * @throws Exception400 요청이 잘못된 경우 올바르지 않은 년도 또는 달
+     *         cursor 또는 size가 있으면 (년도와 달에 맞는) 행사 한 페이지와 next 커서를 담은 SchedulerAdminPageDto
+     * @throws Exception400 요청이 잘못된 경우 올바르지 않은 년도 또는 달 / 커서 / 페이지 크기
      * @throws Exception500 디코딩에 실패한 경우
      */
     @GetMapping("/schedule")
-    public ResponseEntity<Map<String, Object>> getSchedulerList(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+    public ResponseEntity<?> getSchedulerList(
+            @LoginUser Long loginUserId,
             @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Integer month
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
         //year와 month 유효성검증
         if (year != null && (year < 2000 || year > 3000))
             throw new Exception400("year", ErrorCode.INVALID_YEAR.getMessage());
         if (month != null && (month < 1 || month > 12))
             throw new Exception400("month", ErrorCode.INVALID_MONTH.getMessage());
+        if (size != null && (size < 1 || size > MAX_PAGE_SIZE))
+            throw new Exception400("size", ErrorCode.INVALID_PAGE_SIZE.getMessage());
         try {
+            // cursor 또는 size가 있으면 커서 페이징으로 응답
+            if (cursor != null || size != null)
+                return ResponseEntity.ok(schedulerAdminService.getSchedulerPageById(
+                        loginUserId,
+                        cursor,
+                        size == null ? DEFAULT_PAGE_SIZE : size,
+                        year,
+                        month
+                ));
+
             return ResponseEntity.ok(
                     schedulerAdminService.getSchedulerListById(
-                            jwtTokenProvider.getUserIdFromToken(token),
+                            loginUserId,
                             year,
                             month
                     )
@@ -101,7 +146,7 @@ public class SchedulerAdminController {
 
     /**
      * 공연 등록 페이지 : 기획사가 공연을 등록함
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param image : 이미지
      * @param schedulerAdminRequestDto : 공연 등록 내용
      * @return 기획사가 등록한 행사를 반환
@@ -111,7 +156,7 @@ public class SchedulerAdminController {
      */
     @PostMapping("/schedule/create")
     public ResponseEntity<SchedulerAdminResponseDto> createScheduler(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestPart(value = "file", required = false) MultipartFile image,
             @RequestPart(value = "dto") SchedulerAdminRequestDto schedulerAdminRequestDto
     ) {
@@ -126,7 +171,7 @@ public class SchedulerAdminController {
             return ResponseEntity.ok(
                     schedulerAdminService.createScheduler(
                             schedulerAdminRequestDto,
-                            jwtTokenProvider.getUserIdFromToken(token),
+                            loginUserId,
                             image
                     )
             );
@@ -139,7 +184,7 @@ public class SchedulerAdminController {
 
     /**
      * 공연 일정 삭제 : 기획사가 등록한 공연을 삭제함
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param adminScheduleId : 삭제하려는 공연의 id
      * @return "스케줄 삭제 완료"
      * @throws Exception400 유효하지 않은 id값일 경우
@@ -149,7 +194,7 @@ public class SchedulerAdminController {
     @PostMapping("/schedule/delete/{adminScheduleId}")
     public ResponseEntity<String> deleteScheduler(
             @PathVariable Long adminScheduleId,
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser Long loginUserId
     ) {
 
         if(adminScheduleId == null || adminScheduleId <= 0)
@@ -159,7 +204,6 @@ public class SchedulerAdminController {
             SchedulerAdminResponseDto schedulerAdminResponseDto =
                     schedulerAdminService.getSchedulerById(adminScheduleId);
 
-            Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
             if (!schedulerAdminResponseDto.getUser().getId().equals(loginUserId))
                 throw new Exception403(ErrorCode.INVALID_USER.getMessage());
 
@@ -173,7 +217,7 @@ public class SchedulerAdminController {
 
     /**
      * 공연 일정 수정 : 기획사가 공연 일정을 업데이트함
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param id : 업데이트 하려는 공연의 id값
      * @param image : 이미지
      * @param schedulerAdminRequestDto : 공연 업데이트 내용
@@ -186,7 +230,7 @@ public class SchedulerAdminController {
     @PostMapping("/schedule/update/{id}")
     public ResponseEntity<SchedulerAdminResponseDto> updateScheduler(
             @PathVariable Long id,
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestPart(value = "file", required = false) MultipartFile image,
             @RequestPart(value = "dto") SchedulerAdminRequestDto schedulerAdminRequestDto
     ) {
@@ -194,7 +238,6 @@ public class SchedulerAdminController {
             //스케줄 조회
             SchedulerAdminResponseDto schedulerDto = schedulerAdminService.getSchedulerById(id);
             //로그인한 사용자 id조회
-            Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
 
             if (image != null && image.getSize() > 10000000)
                 throw new Exception413(String.valueOf(image.getSize()), ErrorCode.FILE_CAPACITY_EXCEEDED.getMessage());
@@ -220,7 +263,7 @@ public class SchedulerAdminController {
 
     /**
      * 공연 기획사별 검색 : 기획사이름으로 검색가능
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param keyword : 검색 키워드(기획사 이름)
      * @param year : 년도
      * @param month : 달
@@ -230,7 +273,7 @@ public class SchedulerAdminController {
      */
     @GetMapping("/schedule/search")
     public ResponseEntity<List<SchedulerAdminResponseDto>> searchScheduler(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestParam String keyword,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month
@@ -250,19 +293,16 @@ public class SchedulerAdminController {
 
     /**
      * 티케팅 결재승인 페이지
-     * @param token 사용자 인증 토큰
+     * @param loginUser : 로그인 사용자 정보
      * @return      userDto, scheduleDto, countProcessDto
      */
     @GetMapping("/schedule/confirm")
     public ResponseEntity<?> getAdminSchedulerAndUserScheduler(
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser UserResponse.UserDto loginUser
     ) {
         try {
-            Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
-            UserResponse.UserDto userInfo = jwtTokenProvider.getUserInfo(token);
-
             return ResponseEntity.ok(
-                    new ResponseDTO<>(schedulerAdminService.getAdminScheduleDetail(loginUserId, userInfo))
+                    new ResponseDTO<>(schedulerAdminService.getAdminScheduleDetail(loginUser.getId(), loginUser))
             );
         } catch (GeneralSecurityException gse) {
             throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
@@ -273,7 +313,7 @@ public class SchedulerAdminController {
      * 티켓 결재 : 선택한 티켓을 승인하거나 거절함.
      * @param userSchedulerId : 선택한 사용자 일정 id
      * @param progress : 선택된 티켓 승인 옵션
-     * @param token : 사용자 인증 토큰
+     * @param loginUser : 로그인 사용자 정보
      * @return : 메세지 응답
      * @throws Exception400 티켓이 존재하지 않을 경우 / 상태를 선택하지 않을 경우
      * @throws Exception412 이미 승인됐거나 거절된 티켓일경우
@@ -284,30 +324,18 @@ public class SchedulerAdminController {
     public ResponseEntity<?> confirmSchedule(
             @PathVariable Long userSchedulerId,
             @RequestParam(required = false) String progress,
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser UserResponse.UserDto loginUser
     ) {
         // 유효성 검사
-        Optional<SchedulerUser> object = schedulerUserRepository.findById(userSchedulerId);
-        if (object.isEmpty())
-            throw new Exception400(userSchedulerId.toString(), ErrorCode.TICKET_NOT_FOUND.getMessage());
         if (progress == null || progress.isBlank())
             throw new Exception400(ErrorCode.EMPTY_PROGRESS.getMessage());
 
-        SchedulerUser schedulerUser = object.get();
-        if(schedulerUser.getProgress().equals(Progress.ACCEPT))
-            throw new Exception412(ErrorCode.ALREADY_ACCEPTED_TICKET.getMessage());
-        if(schedulerUser.getProgress().equals(Progress.REFUSE))
-            throw new Exception412(ErrorCode.ALREADY_REFUSED_TICKET.getMessage());
-        User fan = schedulerUser.getUser();
-
         String message = null;
         Progress confirmProgress = null;
         if (progress.equals("ACCEPT")) {
-            fan.setUsedTicket(fan.getUsedTicket() + 1);
             confirmProgress = Progress.ACCEPT;
             message = "티켓을 승인합니다";
         } else if(progress.equals("REFUSE")) {
-            fan.setSizeOfTicket(fan.getSizeOfTicket() + 1);
             confirmProgress = Progress.REFUSE;
             message = "티켓을 거절합니다.";
         } else throw new Exception404(ErrorCode.INVALID_REQUEST.getMessage());
@@ -315,10 +343,10 @@ public class SchedulerAdminController {
         try {
             return ResponseEntity.ok(
                     new ResponseDTO<>(
-                            schedulerAdminService.updateUserSchedule(
+                            schedulerAdminService.confirmSchedule(
                                     userSchedulerId,
                                     confirmProgress,
-                                    jwtTokenProvider.getUserInfo(token)
+                                    loginUser
                             ),
                             message
                     )
@@ -328,18 +356,50 @@ public class SchedulerAdminController {
         }
     }
 
+    /**
+     * 티켓 일괄 결재 : 선택한 티켓들을 한 번에 승인하거나 거절함.
+     * 다른 기획사의 티켓이나 이미 처리된 티켓은 건너뛰고, 티켓마다 처리 결과를 돌려줌.
+     * @param confirmRequestDto : 결재할 티켓 id 목록과 승인 옵션
+     * @param loginUserId : 로그인 사용자 id
+     * @return : 티켓별 처리 결과
+     * @throws Exception400 티켓을 선택하지 않았거나 너무 많을 경우 / 상태를 선택하지 않을 경우 / 승인 거절 이외의 요청일경우
+     */
+    @PostMapping("/schedule/confirm")
+    public ResponseEntity<?> confirmSchedules(
+            @RequestBody ConfirmRequestDto confirmRequestDto,
+            @LoginUser Long loginUserId
+    ) {
+        // 유효성 검사
+        List<Long> ids = confirmRequestDto.getIds();
+        if (ids == null || ids.isEmpty())
+            throw new Exception400("ids", ErrorCode.EMPTY_TICKET_ID.getMessage());
+        if (ids.contains(null))
+            throw new Exception400("ids", ErrorCode.INVALID_ID.getMessage());
+        if (ids.size() > MAX_CONFIRM_SIZE)
+            throw new Exception400("ids", ErrorCode.TOO_MANY_TICKETS.getMessage());
+        Progress progress = confirmRequestDto.getProgress();
+        if (progress == null)
+            throw new Exception400("progress", ErrorCode.EMPTY_PROGRESS.getMessage());
+        if (progress == Progress.WAITING)
+            throw new Exception400("progress", ErrorCode.INVALID_REQUEST.getMessage());
+
+        return ResponseEntity.ok(
+                new ResponseDTO<>(schedulerAdminService.confirmSchedules(loginUserId, ids, progress))
+        );
+    }
+
     /**
      * 엑셀 파일 다운로드 : 기획사 토큰을 받아 관련 티케팅 데이터를 엑셀 파일로 다운로드함.
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @return : "다운로드 완료"
      * @throws Exception500 디코딩에 실패한 경우 / 이미지 파일 전송에 실패한 경우 / 잘못된 접근일 경우
      */
     @GetMapping("/schedule/excelDownload")
     public ResponseEntity<String> excelDownload(
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser Long loginUserId
     ) {
         try {
-            schedulerAdminService.excelDownload(jwtTokenProvider.getUserIdFromToken(token));
+            schedulerAdminService.excelDownload(loginUserId);
 
             return ResponseEntity.ok("다운로드 완료");
         } catch (GeneralSecurityException gse) {
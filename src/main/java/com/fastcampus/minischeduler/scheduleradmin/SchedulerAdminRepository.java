@@ -3,17 +3,168 @@ package com.fastcampus.minischeduler.scheduleradmin;
 import com.fastcampus.minischeduler.scheduleruser.Progress;
 import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
 import com.fastcampus.minischeduler.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+// 일정 목록은 작성자(user)를 DTO로 변환하므로, 목록 조회 메서드는 user를 함께 fetch join 합니다. (N+1 방지)
 public interface SchedulerAdminRepository extends JpaRepository<SchedulerAdmin, Long> {
 
+    @EntityGraph(attributePaths = "user")
     List<SchedulerAdmin> findByUser(User user);
 
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sa FROM SchedulerAdmin sa")
+    List<SchedulerAdmin> findAllWithUser();
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sa FROM SchedulerAdmin sa WHERE sa.id = :id")
+    Optional<SchedulerAdmin> findWithUserById(@Param("id") Long id);
+
+    /**
+     * [from, to) 구간과 겹치는 일정을 조회합니다. 여러 달에 걸친 일정은 중간 달에서도 조회됩니다.
+     * 종료일이 없는 일정은 시작 시각에만 존재하는 것으로 봅니다.
+     * from 안에서 시작한 일정(시작일 범위)과 from 이전에 시작해 from 이후에 끝나는 일정(종료일 범위)으로 나누어,
+     * 각 조건이 (scheduleStart, id) / (scheduleEnd, scheduleStart) 인덱스의 범위 조회가 되도록 합니다. (index_merge union)
+     * 아래의 *Overlapping 조회와 ScheduleIntervalIndex 도 같은 조건을 사용합니다.
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE (sa.scheduleStart >= :from AND sa.scheduleStart < :to) " +
+            "OR (sa.scheduleStart < :from AND sa.scheduleEnd > :from)"
+    )
+    List<SchedulerAdmin> findAllOverlapping(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 기획사가 등록한 일정 중 [from, to) 구간과 겹치는 일정을 조회합니다.
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE sa.user.id = :userId " +
+            "AND ((sa.scheduleStart >= :from AND sa.scheduleStart < :to) " +
+            "OR (sa.scheduleStart < :from AND sa.scheduleEnd > :from))"
+    )
+    List<SchedulerAdmin> findByUserIdOverlapping(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sa FROM SchedulerAdmin sa WHERE sa.id IN :ids ORDER BY sa.scheduleStart ASC, sa.id ASC")
+    List<SchedulerAdmin> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(
+            "SELECT sa.id AS id, sa.user.id AS userId, " +
+            "sa.scheduleStart AS scheduleStart, sa.scheduleEnd AS scheduleEnd " +
+            "FROM SchedulerAdmin sa"
+    )
+    List<ScheduleIntervalIndex.Interval> findAllIntervals();
+
+    @Query(
+            "SELECT sa.id AS id, sa.user.id AS userId, " +
+            "sa.scheduleStart AS scheduleStart, sa.scheduleEnd AS scheduleEnd " +
+            "FROM SchedulerAdmin sa WHERE sa.id = :id"
+    )
+    Optional<ScheduleIntervalIndex.Interval> findIntervalById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT sa FROM SchedulerAdmin sa WHERE sa.user.id IN :userIds")
+    List<SchedulerAdmin> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE sa.user.id IN :userIds " +
+            "AND ((sa.scheduleStart >= :from AND sa.scheduleStart < :to) " +
+            "OR (sa.scheduleStart < :from AND sa.scheduleEnd > :from))"
+    )
+    List<SchedulerAdmin> findByUserIdInOverlapping(
+            @Param("userIds") Collection<Long> userIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * (scheduleStart, id) 키셋 페이징 : 커서 이후의 일정을 pageable 의 크기만큼 조회합니다.
+     * OFFSET 없이 인덱스 위치에서 바로 읽기 시작하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE sa.scheduleStart > :start OR (sa.scheduleStart = :start AND sa.id > :id) " +
+            "ORDER BY sa.scheduleStart ASC, sa.id ASC"
+    )
+    List<SchedulerAdmin> findPageAfter(
+            @Param("start") LocalDateTime start,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE ((sa.scheduleStart >= :from AND sa.scheduleStart < :to) " +
+            "OR (sa.scheduleStart < :from AND sa.scheduleEnd > :from)) " +
+            "AND (sa.scheduleStart > :start OR (sa.scheduleStart = :start AND sa.id > :id)) " +
+            "ORDER BY sa.scheduleStart ASC, sa.id ASC"
+    )
+    List<SchedulerAdmin> findPageOverlappingAfter(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("start") LocalDateTime start,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE sa.user.id = :userId " +
+            "AND (sa.scheduleStart > :start OR (sa.scheduleStart = :start AND sa.id > :id)) " +
+            "ORDER BY sa.scheduleStart ASC, sa.id ASC"
+    )
+    List<SchedulerAdmin> findPageByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "user")
+    @Query(
+            "SELECT sa FROM SchedulerAdmin sa " +
+            "WHERE sa.user.id = :userId " +
+            "AND ((sa.scheduleStart >= :from AND sa.scheduleStart < :to) " +
+            "OR (sa.scheduleStart < :from AND sa.scheduleEnd > :from)) " +
+            "AND (sa.scheduleStart > :start OR (sa.scheduleStart = :start AND sa.id > :id)) " +
+            "ORDER BY sa.scheduleStart ASC, sa.id ASC"
+    )
+    List<SchedulerAdmin> findPageByUserIdOverlappingAfter(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("start") LocalDateTime start,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     @Query(
             "SELECT " +
                     "sa.id AS adminScheduleId, " +
@@ -27,25 +178,53 @@ public interface SchedulerAdminRepository extends JpaRepository<SchedulerAdmin,
     )
     List<SchedulerAdminResponse.ScheduleDTO> findSchedulesWithUsersById(@Param("id") Long id);
 
-    @Query(value =
-            "SELECT SUM(T.WAITING) AS WAITING, SUM(T.ACCEPTED) AS ACCEPTED, SUM(T.REFUSED) AS REFUSED " +
-            "FROM (" +
-                "SELECT " +
-                "CASE WHEN su.progress = 'WAITING' THEN COUNT(su.progress) END AS WAITING, " +
-                "CASE WHEN su.progress = 'ACCEPT' THEN COUNT(su.progress) END AS ACCEPTED, " +
-                "CASE WHEN su.progress = 'REFUSE' THEN COUNT(su.progress) END AS REFUSED " +
-                "FROM scheduler_user_tb AS su " +
-                "INNER JOIN scheduler_admin_tb AS sa ON sa.id = su.scheduler_admin_id " +
-                "WHERE sa.user_id = :id GROUP BY su.progress" +
-            ") AS T",
-            nativeQuery = true
-    )
-    SchedulerAdminResponse.CountProcessDTO countScheduleGroupByProgressById(@Param("id") Long id);
+    /**
+     * 기획사 일정별 승인 현황을 집계합니다. 신청이 없는 일정은 progress 가 null, count 가 0 인 한 행으로 나옵니다.
+     * 승인 현황 카운터(ProgressCountService)의 재집계에만 사용합니다.
+     */
+    @Query(
+            "SELECT sa.id AS schedulerAdminId, su.progress AS progress, COUNT(su.id) AS count " +
+            "FROM SchedulerAdmin sa LEFT JOIN SchedulerUser su ON su.schedulerAdmin = sa " +
+            "WHERE sa.user.id = :agencyId " +
+            "GROUP BY sa.id, su.progress"
+    )
+    List<ProgressCountService.EventProgress> countProgressGroupByEvent(@Param("agencyId") Long agencyId);
+
+    @Query("SELECT DISTINCT sa.user.id FROM SchedulerAdmin sa")
+    List<Long> findAllAgencyIds();
+
+    /**
+     * 기획사(userId)가 등록한 행사 id 목록을 반환합니다. 프로필이 바뀌면 행사 상세 캐시를 지우는 데 사용합니다.
+     */
+    @Query("SELECT sa.id FROM SchedulerAdmin sa WHERE sa.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
 
+    /**
+     * ids 중 기획사(agencyId)의 행사에 신청된 티켓만 조회하고 행을 잠급니다(SELECT ... FOR UPDATE).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "SELECT su FROM SchedulerUser su " +
+            "WHERE su.id IN :ids AND su.schedulerAdmin.user.id = :agencyId " +
+            "ORDER BY su.id" // 겹치는 일괄 결재끼리 같은 순서로 잠가 교착을 피함
+    )
+    List<SchedulerUser> findAllTicketsForUpdate(
+            @Param("ids") Collection<Long> ids,
+            @Param("agencyId") Long agencyId
+    );
+
+    /**
+     * 승인 대기 중인 티켓들을 한 번에 progress 로 변경합니다.
+     * @return 변경된 행 수
+     */
     @Modifying
-    @Query("UPDATE SchedulerUser su SET su.progress = :progress WHERE su.id = :schedulerAdminId")
-    void updateUserScheduleById(Long schedulerAdminId, Progress progress);
+    @Query(
+            "UPDATE SchedulerUser su SET su.progress = :progress " +
+            "WHERE su.id IN :ids AND su.progress = com.fastcampus.minischeduler.scheduleruser.Progress.WAITING"
+    )
+    int updateUserSchedulesByIdIn(@Param("ids") Collection<Long> ids, @Param("progress") Progress progress);
 
+    @EntityGraph(attributePaths = {"user", "schedulerAdmin"})
     @Query("SELECT su FROM SchedulerUser su WHERE su.schedulerAdmin.user.id = :id")
     List<SchedulerUser> findAllTicketsByAdminId(Long id);
 }
@@ -1,11 +1,13 @@
 package com.fastcampus.minischeduler.scheduleradmin;
 
+import com.fastcampus.minischeduler.scheduleruser.Progress;
 import com.fastcampus.minischeduler.user.User;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @NoArgsConstructor
 public class SchedulerAdminRequest {
@@ -25,4 +27,12 @@ public class SchedulerAdminRequest {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
+
+    @Data
+    @NoArgsConstructor
+    public static class ConfirmRequestDto {
+
+        private List<Long> ids; // 결재할 티켓(scheduler_user) id 목록
+        private Progress progress; // ACCEPT 또는 REFUSE
+    }
 }
@@ -1,12 +1,15 @@
 package com.fastcampus.minischeduler.scheduleradmin;
 
+import com.fastcampus.minischeduler.image.ImageVariant;
 import com.fastcampus.minischeduler.scheduleruser.Progress;
+import com.fastcampus.minischeduler.user.UserResponse;
 import com.fastcampus.minischeduler.user.UserResponse.UserDto;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
@@ -104,7 +107,7 @@ public class SchedulerAdminResponse {
     @AllArgsConstructor
     @Getter
     @NoArgsConstructor
-    public static class ImplCountProcessDTO implements CountProcessDTO{
+    public static class ImplCountProcessDTO implements CountProcessDTO, UserResponse.GetRoleAdminCountProgressDTO {
 
         // 승인 현황 별 count
         Integer waiting;
@@ -129,5 +132,36 @@ public class SchedulerAdminResponse {
         private String image;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+
+        // thumbnail / list / detail 리사이즈 이미지 url
+        public Map<String, String> getImageVariants() {
+            return ImageVariant.urlsOf(image);
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class SchedulerAdminPageDto {
+
+        private List<SchedulerAdminResponseDto> content;
+
+        // 다음 페이지 커서, 마지막 페이지라면 null
+        private String next;
+    }
+
+    public enum ConfirmResult {
+        CONFIRMED, // 승인 또는 거절됨
+        NOT_FOUND, // 없는 티켓이거나 다른 기획사의 티켓
+        ALREADY_ACCEPTED,
+        ALREADY_REFUSED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ConfirmResultDto {
+
+        private Long id;
+        private ConfirmResult result;
     }
 }
@@ -1,21 +1,27 @@
 package com.fastcampus.minischeduler.scheduleradmin;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.fastcampus.minischeduler.core.exception.ErrorCode;
 import com.fastcampus.minischeduler.core.exception.Exception400;
+import com.fastcampus.minischeduler.core.exception.Exception412;
 import com.fastcampus.minischeduler.core.utils.AES256Utils;
 import com.fastcampus.minischeduler.core.utils.DateUtils;
+import com.fastcampus.minischeduler.image.ImageService;
 import com.fastcampus.minischeduler.scheduleruser.Progress;
 import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
 import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRepository;
 import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
+import com.fastcampus.minischeduler.user.UserNameIndexService;
 import com.fastcampus.minischeduler.user.UserRepository;
 import com.fastcampus.minischeduler.user.UserResponse;
-import com.fastcampus.minischeduler.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.*;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,25 +37,50 @@ import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminRequest.SchedulerAdminRequestDto;
+import static com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.ConfirmResult;
+import static com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.ConfirmResultDto;
+import static com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.SchedulerAdminPageDto;
 import static com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.SchedulerAdminResponseDto;
 
 @Service
 @RequiredArgsConstructor
 public class SchedulerAdminService {
 
-    private final AmazonS3 amazonS3;
+    private static final int EXCEL_ROW_WINDOW = 100; // 엑셀 내보내기 시 메모리에 유지할 행 수
+    private static final int EXCEL_CLEAR_INTERVAL = 500; // 영속성 컨텍스트를 비우는 행 수
+    private static final String EXCEL_TICKET_QUERY =
+            "SELECT su FROM SchedulerUser su " +
+            "JOIN FETCH su.user " +
+            "JOIN FETCH su.schedulerAdmin sa " +
+            "WHERE sa.user.id = :id " +
+            "ORDER BY su.id ASC";
+
+    // 엑셀 내보내기 조회에만 쓰는 fetch size, MySQL 은 Integer.MIN_VALUE 일 때 결과를 버퍼링하지 않고 한 행씩 스트리밍함
+    @Value("${my-env.excel.fetch-size:-2147483648}")
+    private int excelFetchSize;
+
+    // 일정 삭제 시 티켓 반환을 MySQL 전용 UPDATE ... JOIN 으로 실행 (H2 는 지원하지 않음)
+    @Value("${my-env.ticket-refund.join-update:false}")
+    private boolean refundWithJoinUpdate;
 
     @PersistenceContext
     private EntityManager entityManager;
 
     private final HttpServletResponse httpServletResponse;
-    private final UserService userService;
+    private final ImageService imageService;
+    private final UserNameIndexService userNameIndexService;
     private final SchedulerAdminRepository schedulerAdminRepository;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ProgressCountService progressCountService;
     private final SchedulerUserRepository schedulerUserRepository;
     private final UserRepository userRepository;
     private final AES256Utils aes256Utils;
+    private final UserIdentityCache userIdentityCache;
 
     /**
      * 전체 일정 목록을 출력합니다.
@@ -58,14 +89,12 @@ public class SchedulerAdminService {
     @Transactional
     public List<SchedulerAdminResponseDto> getSchedulerList() throws GeneralSecurityException {
 
-        List<SchedulerAdmin> schedulers = schedulerAdminRepository.findAll();
+        List<SchedulerAdmin> schedulers = schedulerAdminRepository.findAllWithUser();
         List<SchedulerAdminResponseDto> schedulerAdminResponseDtoList = new ArrayList<>();
 
         for (SchedulerAdmin scheduler : schedulers) {
 
-            UserResponse.UserDto responseUser = new UserResponse.UserDto(scheduler.getUser());
-            responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-            responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+            UserResponse.UserDto responseUser = userIdentityCache.toUserDto(scheduler.getUser());
 
             SchedulerAdminResponseDto schedulerAdminResponseDto =
                     SchedulerAdminResponseDto.builder()
@@ -86,6 +115,7 @@ public class SchedulerAdminService {
 
     /**
      * year와 month로 해당하는 일정의 스케줄만 반환합니다
+     * 여러 달에 걸친 일정은 걸쳐 있는 모든 달에서 반환됩니다.
      * @param year
      * @param month
      * @return SchedulerAdminResponseDto
@@ -97,36 +127,60 @@ public class SchedulerAdminService {
 
         YearMonth yearMonth = YearMonth.of(year, month);
 
-        List<SchedulerAdmin> schedulers = schedulerAdminRepository.findAll();
+        return getSchedulerListBetween(startOfMonth(yearMonth), startOfMonth(yearMonth.plusMonths(1)));
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 일정을 시작일 순으로 반환합니다. (주간 / 임의 기간 조회)
+     * @param from : 시작 시각(포함)
+     * @param to   : 종료 시각(미포함)
+     * @return SchedulerAdminResponseDto
+     */
+    @Transactional(readOnly = true)
+    public List<SchedulerAdminResponseDto> getSchedulerListBetween(
+            LocalDateTime from,
+            LocalDateTime to
+    ) throws GeneralSecurityException {
+
         List<SchedulerAdminResponseDto> schedulerAdminResponseDtoList = new ArrayList<>();
+        for (SchedulerAdmin scheduler : findOverlapping(null, from, to))
+            schedulerAdminResponseDtoList.add(toSchedulerAdminResponseDto(scheduler));
 
-        for (SchedulerAdmin scheduler : schedulers) {
-            LocalDateTime scheduleStart = scheduler.getScheduleStart();
-            LocalDateTime scheduleEnd = scheduler.getScheduleEnd();
-            YearMonth scheduleYearMonthStart = YearMonth.of(scheduleStart.getYear(), scheduleStart.getMonth());
-            YearMonth scheduleYearMonthEnd = YearMonth.of(scheduleEnd.getYear(), scheduleEnd.getMonth());
-            if (yearMonth.equals(scheduleYearMonthStart) || yearMonth.equals(scheduleYearMonthEnd)) {
+        return schedulerAdminResponseDtoList;
+    }
+
+    /**
+     * 전체 일정을 (scheduleStart, id) 순으로 커서 페이징하여 반환합니다.
+     * year와 month가 null이 아니라면 해당하는 년도와 달의 일정만 페이징합니다.
+     * @param cursor : 이전 페이지 응답의 next 값, 첫 페이지는 null
+     * @param size   : 페이지 크기
+     * @return SchedulerAdminPageDto
+     */
+    @Transactional(readOnly = true)
+    public SchedulerAdminPageDto getSchedulerPage(
+            String cursor,
+            int size,
+            Integer year,
+            Integer month
+    ) throws GeneralSecurityException {
 
-                UserResponse.UserDto responseUser = new UserResponse.UserDto(scheduler.getUser());
-                responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-                responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
 
-                SchedulerAdminResponseDto schedulerAdminResponseDto =
-                        SchedulerAdminResponseDto.builder()
-                                .user(responseUser)
-                                .id(scheduler.getId())
-                                .scheduleStart(scheduler.getScheduleStart())
-                                .scheduleEnd(scheduler.getScheduleEnd())
-                                .title(scheduler.getTitle())
-                                .description(scheduler.getDescription())
-                                .image(scheduler.getImage())
-                                .createdAt(scheduler.getCreatedAt())
-                                .updatedAt(scheduler.getUpdatedAt())
-                                .build();
-                schedulerAdminResponseDtoList.add(schedulerAdminResponseDto);
-            }
+        List<SchedulerAdmin> schedulers;
+        if (year != null && month != null) {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            schedulers = schedulerAdminRepository.findPageOverlappingAfter(
+                    startOfMonth(yearMonth),
+                    startOfMonth(yearMonth.plusMonths(1)),
+                    after.getScheduleStart(),
+                    after.getId(),
+                    limit
+            );
+        } else {
+            schedulers = schedulerAdminRepository.findPageAfter(after.getScheduleStart(), after.getId(), limit);
         }
-        return schedulerAdminResponseDtoList;
+        return toSchedulerAdminPageDto(schedulers, size);
     }
 
     /**
@@ -146,7 +200,7 @@ public class SchedulerAdminService {
                 .orElseThrow(()-> new Exception400(loginUserId.toString(), "사용자 정보를 찾을 수 없습니다"));
 
         String imageUrl = null;
-        if (image != null) imageUrl = userService.uploadImageToS3(image);
+        if (image != null) imageUrl = imageService.upload(image);
         if (image == null) imageUrl = "https://miniproject12storage.s3.ap-northeast-2.amazonaws.com/default.jpg";
 
 
@@ -159,10 +213,10 @@ public class SchedulerAdminService {
                 .image(imageUrl)
                 .build();
         SchedulerAdmin saveScheduler = schedulerAdminRepository.save(scheduler);
+        scheduleIntervalIndex.putAfterCommit(saveScheduler);
+        progressCountService.createEvent(saveScheduler.getId(), loginUserId);
 
-        UserResponse.UserDto responseUser = new UserResponse.UserDto(saveScheduler.getUser());
-        responseUser.setFullName(aes256Utils.decryptAES256(user.getFullName()));
-        responseUser.setEmail(aes256Utils.decryptAES256(user.getEmail()));
+        UserResponse.UserDto responseUser = userIdentityCache.toUserDto(saveScheduler.getUser());
 
         return SchedulerAdminResponseDto.builder()
                 .user(responseUser)
@@ -196,14 +250,10 @@ public class SchedulerAdminService {
         );
 
         if (image != null && !image.isEmpty()) {
-            // 새로운 이미지가 있다면 저장소에 저장된 기존 이미지는 삭제함
+            // 새로운 이미지가 있다면 저장소에 저장된 기존 이미지는 삭제함 (새 이미지 업로드가 실패하면 기존 이미지를 유지)
             String oldImage = scheduler.getImage();
-            if (oldImage != null && !oldImage.isEmpty()) {
-                int slash = oldImage.lastIndexOf("/");
-                String fileName = oldImage.substring(slash + 1);
-                deleteImage(fileName);
-            }
-            String imageUrl = userService.uploadImageToS3(image);
+            String imageUrl = imageService.upload(image);
+            if (oldImage != null && !oldImage.isEmpty()) imageService.deleteAfterCommit(oldImage);
             scheduler.update(
                     schedulerAdminRequestDto.getScheduleStart(),
                     schedulerAdminRequestDto.getScheduleEnd(),
@@ -220,6 +270,8 @@ public class SchedulerAdminService {
                     scheduler.getImage()
             );
         }
+        scheduleIntervalIndex.putAfterCommit(scheduler);
+        scheduleDetailCache.evictAfterCommit(id);
         return id;
     }
 
@@ -233,26 +285,23 @@ public class SchedulerAdminService {
 
          SchedulerAdmin schedulerAdmin = schedulerAdminRepository.findById(id)
                  .orElseThrow(() -> new Exception400(id.toString(), "스케줄을 찾을 수 없습니다"));
-         List<SchedulerUser> schedulerUsers = schedulerUserRepository.findBySchedulerAdmin(schedulerAdmin);
-         if (!schedulerUsers.isEmpty()) {
-             for (SchedulerUser schedulerUser : schedulerUsers) {
-                 User user = schedulerUser.getUser();
-                 int ticket = user.getSizeOfTicket();
-                 user.setSizeOfTicket(ticket + 1);
-             }
-         }
-         //글 삭제시 저장된 image파일도 같이 삭제
          String image = schedulerAdmin.getImage();
-         if (image != null && !image.isEmpty()) {
-             int slash = image.lastIndexOf("/");
-             String fileName = image.substring(slash + 1);
-             deleteImage(fileName);
-         }
+
+         // 신청한 팬들의 티켓을 한 번의 UPDATE 로 되돌려줌 (신청 내역은 일정과 함께 삭제됨)
+         if (refundWithJoinUpdate) userRepository.refundTicketsBySchedulerAdminIdWithJoin(id);
+         else userRepository.refundTicketsBySchedulerAdminId(id);
+         progressCountService.removeEvent(id, schedulerAdmin.getUser().getId());
+
+         //글 삭제시 저장된 image파일도 같이 삭제 (커밋된 뒤에 삭제)
+         if (image != null && !image.isEmpty()) imageService.deleteAfterCommit(image);
          schedulerAdminRepository.deleteById(id);
+         scheduleIntervalIndex.removeAfterCommit(id);
+         scheduleDetailCache.evictAfterCommit(id);
      }
 
     /**
      * 사용자 별 일정을 출력합니다.
+     * 이름 블라인드 인덱스로 keyword를 포함할 수 있는 기획사만 찾은 뒤, 해당 기획사의 일정만 복호화해 확인합니다.
      * year와 month가 null이 아니라면 해당하는 년도와 달로 출력합니다
      * @param keyword, year, month
      * @return List<SchedulerAdminResponseDto>
@@ -266,86 +315,82 @@ public class SchedulerAdminService {
 
         YearMonth yearMonth = null;
         if (year != null && month != null) yearMonth = YearMonth.of(year, month);
-        System.out.println(keyword + aes256Utils.encryptAES256(keyword));
 
-        List<SchedulerAdminResponseDto> schedulerAdminResponseDtoList = new ArrayList<>();
+        List<SchedulerAdmin> schedulers;
+        if (keyword.isBlank()) { // 빈 검색어는 모든 이름에 포함됨
+            schedulers = yearMonth == null
+                    ? schedulerAdminRepository.findAllWithUser()
+                    : findOverlapping(null, startOfMonth(yearMonth), startOfMonth(yearMonth.plusMonths(1)));
+        } else {
+            List<Long> candidateUserIds = userNameIndexService.findCandidateUserIds(keyword);
+            if (candidateUserIds.isEmpty()) return new ArrayList<>();
+
+            schedulers = yearMonth == null
+                    ? schedulerAdminRepository.findByUserIdIn(candidateUserIds)
+                    : schedulerAdminRepository.findByUserIdInOverlapping(
+                            candidateUserIds,
+                            startOfMonth(yearMonth),
+                            startOfMonth(yearMonth.plusMonths(1))
+                    );
+        }
 
-        for (SchedulerAdmin scheduler : schedulerAdminRepository.findAll()) {
-            System.out.println(scheduler);
-            UserResponse.UserDto responseUser = new UserResponse.UserDto(scheduler.getUser());
-            responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-            responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
-            if(responseUser.getFullName().contains(keyword)){
-                SchedulerAdminResponseDto schedulerAdminResponseDto = null;
-                if (yearMonth != null) {
-                    LocalDateTime scheduleStart = scheduler.getScheduleStart();
-                    LocalDateTime scheduleEnd = scheduler.getScheduleEnd();
-                    YearMonth scheduleYearMonthStart = YearMonth.of(scheduleStart.getYear(), scheduleStart.getMonth());
-                    YearMonth scheduleYearMonthEnd = YearMonth.of(scheduleEnd.getYear(), scheduleEnd.getMonth());
-
-                    if (yearMonth.equals(scheduleYearMonthStart) || yearMonth.equals(scheduleYearMonthEnd)) {
-                        schedulerAdminResponseDto =
-                            SchedulerAdminResponseDto.builder()
-                                    .user(responseUser)
-                                    .id(scheduler.getId())
-                                    .scheduleStart(scheduler.getScheduleStart())
-                                    .scheduleEnd(scheduler.getScheduleEnd())
-                                    .title(scheduler.getTitle())
-                                    .description(scheduler.getDescription())
-                                    .image(scheduler.getImage())
-                                    .createdAt(scheduler.getCreatedAt())
-                                    .updatedAt(scheduler.getUpdatedAt())
-                                    .build();
-                    }
-                } else {
-                    schedulerAdminResponseDto =
-                        SchedulerAdminResponseDto.builder()
-                                .user(responseUser)
-                                .id(scheduler.getId())
-                                .scheduleStart(scheduler.getScheduleStart())
-                                .scheduleEnd(scheduler.getScheduleEnd())
-                                .title(scheduler.getTitle())
-                                .description(scheduler.getDescription())
-                                .image(scheduler.getImage())
-                                .createdAt(scheduler.getCreatedAt())
-                                .updatedAt(scheduler.getUpdatedAt())
-                                .build();
-                }
+        List<SchedulerAdminResponseDto> schedulerAdminResponseDtoList = new ArrayList<>();
+        for (SchedulerAdmin scheduler : schedulers) {
+            SchedulerAdminResponseDto schedulerAdminResponseDto = toSchedulerAdminResponseDto(scheduler);
+            // 토큰 일치는 후보이므로 복호화한 이름으로 최종 확인
+            if (schedulerAdminResponseDto.getUser().getFullName().contains(keyword))
                 schedulerAdminResponseDtoList.add(schedulerAdminResponseDto);
-            }
         }
         return schedulerAdminResponseDtoList;
     }
 
     /**
      * 사용자 id로 일정을 검색합니다.
+     * ScheduleDetailCache 를 거치므로 캐시에 있으면 DB 커넥션을 쓰지 않습니다(트랜잭션을 열지 않는 이유).
      * @param id : 사용자 id
      * @return   : SchedulerAdminResponseDto
      */
-    @Transactional
     public SchedulerAdminResponseDto getSchedulerById(Long id) throws GeneralSecurityException {
 
-        SchedulerAdmin scheduler = schedulerAdminRepository.findById(id).orElseThrow(
-                () -> new Exception400(id.toString(), "해당 게시글이 존재하지 않습니다.")
+        ScheduleDetailCache.Detail detail = scheduleDetailCache.get(id, this::loadScheduleDetail);
+        UserIdentityCache.Identity identity = userIdentityCache.get(
+                detail.getUserId(),
+                detail.getUserUpdatedAt(),
+                detail.getUserFullName(),
+                detail.getUserEmail()
         );
 
-        UserResponse.UserDto responseUser = new UserResponse.UserDto(scheduler.getUser());
-        responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-        responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+        UserResponse.UserDto responseUser = UserResponse.UserDto.builder()
+                .id(detail.getUserId())
+                .email(identity.getEmail())
+                .fullName(identity.getFullName())
+                .sizeOfTicket(detail.getUserSizeOfTicket())
+                .role(detail.getUserRole())
+                .profileImage(detail.getUserProfileImage())
+                .build();
 
         return SchedulerAdminResponseDto.builder()
                 .user(responseUser)
-                .id(scheduler.getId())
-                .scheduleStart(scheduler.getScheduleStart())
-                .scheduleEnd(scheduler.getScheduleEnd())
-                .title(scheduler.getTitle())
-                .description(scheduler.getDescription())
-                .image(scheduler.getImage())
-                .createdAt(scheduler.getCreatedAt())
-                .updatedAt(scheduler.getUpdatedAt())
+                .id(detail.getId())
+                .scheduleStart(detail.getScheduleStart())
+                .scheduleEnd(detail.getScheduleEnd())
+                .title(detail.getTitle())
+                .description(detail.getDescription())
+                .image(detail.getImage())
+                .createdAt(detail.getCreatedAt())
+                .updatedAt(detail.getUpdatedAt())
                 .build();
     }
 
+    private ScheduleDetailCache.Detail loadScheduleDetail(Long id) {
+
+        SchedulerAdmin scheduler = schedulerAdminRepository.findWithUserById(id).orElseThrow(
+                () -> new Exception400(id.toString(), "해당 게시글이 존재하지 않습니다.")
+        );
+
+        return ScheduleDetailCache.Detail.of(scheduler);
+    }
+
     /**
      * 사용자 id로 일정을 검색합니다.
      * @param id : 사용자 id
@@ -376,40 +421,35 @@ public class SchedulerAdminService {
 
         if (year != null && month != null) {
             YearMonth yearMonth = YearMonth.of(year, month);
-            for (SchedulerAdmin schedulerAdmin : schedulerAgencies) {
-                LocalDateTime scheduleStart = schedulerAdmin.getScheduleStart();
-                LocalDateTime scheduleEnd = schedulerAdmin.getScheduleEnd();
-                YearMonth scheduleYearMonthStart = YearMonth.of(scheduleStart.getYear(), scheduleStart.getMonth());
-                YearMonth scheduleYearMonthEnd = YearMonth.of(scheduleEnd.getYear(), scheduleEnd.getMonth());
-
-                UserResponse.UserDto responseUser = new UserResponse.UserDto(schedulerAdmin.getUser());
-                responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-                responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
-
-                if (yearMonth.equals(scheduleYearMonthStart) || yearMonth.equals(scheduleYearMonthEnd)) {
-                    SchedulerAdminResponseDto schedulerAdminResponseDto =
-                        SchedulerAdminResponseDto.builder()
-                                .user(responseUser)
-                                .id(schedulerAdmin.getId())
-                                .scheduleStart(schedulerAdmin.getScheduleStart())
-                                .scheduleEnd(schedulerAdmin.getScheduleEnd())
-                                .title(schedulerAdmin.getTitle())
-                                .description(schedulerAdmin.getDescription())
-                                .image(schedulerAdmin.getImage())
-                                .createdAt(schedulerAdmin.getCreatedAt())
-                                .updatedAt(schedulerAdmin.getUpdatedAt())
-                                .build();
-                    schedulerAdminResponseDtoListByYearAndMonth.add(schedulerAdminResponseDto);
-                }
+            List<SchedulerAdmin> schedulerAgenciesByYearAndMonth = findOverlapping(
+                    user.getId(),
+                    startOfMonth(yearMonth),
+                    startOfMonth(yearMonth.plusMonths(1))
+            );
+            for (SchedulerAdmin schedulerAdmin : schedulerAgenciesByYearAndMonth) {
+
+                UserResponse.UserDto responseUser = userIdentityCache.toUserDto(schedulerAdmin.getUser());
+
+                SchedulerAdminResponseDto schedulerAdminResponseDto =
+                    SchedulerAdminResponseDto.builder()
+                            .user(responseUser)
+                            .id(schedulerAdmin.getId())
+                            .scheduleStart(schedulerAdmin.getScheduleStart())
+                            .scheduleEnd(schedulerAdmin.getScheduleEnd())
+                            .title(schedulerAdmin.getTitle())
+                            .description(schedulerAdmin.getDescription())
+                            .image(schedulerAdmin.getImage())
+                            .createdAt(schedulerAdmin.getCreatedAt())
+                            .updatedAt(schedulerAdmin.getUpdatedAt())
+                            .build();
+                schedulerAdminResponseDtoListByYearAndMonth.add(schedulerAdminResponseDto);
             }
             response.put("schedulerAdminListByYearAndMonth", schedulerAdminResponseDtoListByYearAndMonth);
         }
 
         for (SchedulerAdmin schedulerAdmin : schedulerAgencies) {
 
-            UserResponse.UserDto responseUser = new UserResponse.UserDto(schedulerAdmin.getUser());
-            responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-            responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+            UserResponse.UserDto responseUser = userIdentityCache.toUserDto(schedulerAdmin.getUser());
 
             SchedulerAdminResponseDto schedulerAdminResponseDto =
                 SchedulerAdminResponseDto.builder()
@@ -430,6 +470,47 @@ public class SchedulerAdminService {
         return response;
     }
 
+    /**
+     * 로그인한 기획사가 등록한 일정을 (scheduleStart, id) 순으로 커서 페이징하여 반환합니다.
+     * year와 month가 null이 아니라면 해당하는 년도와 달의 일정만 페이징합니다.
+     * @param cursor : 이전 페이지 응답의 next 값, 첫 페이지는 null
+     * @param size   : 페이지 크기
+     * @return SchedulerAdminPageDto
+     */
+    @Transactional(readOnly = true)
+    public SchedulerAdminPageDto getSchedulerPageById(
+            Long loginUserId,
+            String cursor,
+            int size,
+            Integer year,
+            Integer month
+    ) throws GeneralSecurityException {
+
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<SchedulerAdmin> schedulers;
+        if (year != null && month != null) {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            schedulers = schedulerAdminRepository.findPageByUserIdOverlappingAfter(
+                    loginUserId,
+                    startOfMonth(yearMonth),
+                    startOfMonth(yearMonth.plusMonths(1)),
+                    after.getScheduleStart(),
+                    after.getId(),
+                    limit
+            );
+        } else {
+            schedulers = schedulerAdminRepository.findPageByUserIdAfter(
+                    loginUserId,
+                    after.getScheduleStart(),
+                    after.getId(),
+                    limit
+            );
+        }
+        return toSchedulerAdminPageDto(schedulers, size);
+    }
+
     /**
      * 결재관리 페이지의 해당 기획사 공연에 티케팅한 사용자의 내역과
      * 승인현황 별 티케팅 수를 조회합니다.
@@ -443,17 +524,23 @@ public class SchedulerAdminService {
 
         List<SchedulerAdminResponse.ImplScheduleDTO> scheduleDtoList = new ArrayList<>();
 
-        for (
-                SchedulerAdminResponse.ScheduleDTO scheduleDTO :
-                schedulerAdminRepository.findSchedulesWithUsersById(loginUserId)
-        ) {
+        List<SchedulerAdminResponse.ScheduleDTO> scheduleDTOs =
+                schedulerAdminRepository.findSchedulesWithUsersById(loginUserId);
+        List<String> fullNames = aes256Utils.decryptAll(
+                scheduleDTOs.stream()
+                        .map(SchedulerAdminResponse.ScheduleDTO::getFullName)
+                        .collect(Collectors.toList())
+        );
+
+        for (int i = 0; i < scheduleDTOs.size(); i++) {
+            SchedulerAdminResponse.ScheduleDTO scheduleDTO = scheduleDTOs.get(i);
             SchedulerAdminResponse.ImplScheduleDTO implScheduleDTO =
                     SchedulerAdminResponse.ImplScheduleDTO.builder()
                             .adminScheduleId(scheduleDTO.getAdminScheduleId())
                             .userScheduleId(scheduleDTO.getUserScheduleId())
                             .title(scheduleDTO.getTitle())
                             .description(scheduleDTO.getDescription())
-                            .fullName(aes256Utils.decryptAES256(scheduleDTO.getFullName()))
+                            .fullName(fullNames.get(i))
                             .progress(scheduleDTO.getProgress())
                             .scheduleStart(scheduleDTO.getScheduleStart())
                             .build();
@@ -466,37 +553,101 @@ public class SchedulerAdminService {
 
         return SchedulerAdminResponse.builder()
                 .implScheduleDto(scheduleDtoList)
-                .countProcessDto(schedulerAdminRepository.countScheduleGroupByProgressById(loginUserId))
+                .countProcessDto(progressCountService.getAgencyCount(loginUserId))
                 .userDto(userInfo)
                 .build();
     }
 
+    /**
+     * 티켓 하나를 승인하거나 거절합니다.
+     * 일괄 결재(confirmSchedules)와 같은 경로로 기획사 소유의 티켓만 잠근 뒤 변경하므로,
+     * 동시에 결재돼도 팬의 티켓 수와 승인 현황 카운터가 한 번만 반영됩니다.
+     * @param userSchedulerId : 결재할 티켓 id
+     * @param progress : ACCEPT 또는 REFUSE
+     * @param responseUserInfo : 로그인한 기획사 정보
+     * @throws Exception400 티켓이 없거나 다른 기획사의 티켓일 경우
+     * @throws Exception412 이미 승인됐거나 거절된 티켓일 경우
+     */
     @Transactional
-    public UserResponse.UserDto updateUserSchedule(
-            Long schedulerAdminId,
+    public UserResponse.UserDto confirmSchedule(
+            Long userSchedulerId,
             Progress progress,
             UserResponse.UserDto responseUserInfo
     ) throws GeneralSecurityException {
 
-        responseUserInfo.setId(responseUserInfo.getId());
+        ConfirmResult result = confirmSchedules(responseUserInfo.getId(), List.of(userSchedulerId), progress)
+                .get(0)
+                .getResult();
+        if (result == ConfirmResult.NOT_FOUND)
+            throw new Exception400(userSchedulerId.toString(), ErrorCode.TICKET_NOT_FOUND.getMessage());
+        if (result == ConfirmResult.ALREADY_ACCEPTED)
+            throw new Exception412(ErrorCode.ALREADY_ACCEPTED_TICKET.getMessage());
+        if (result == ConfirmResult.ALREADY_REFUSED)
+            throw new Exception412(ErrorCode.ALREADY_REFUSED_TICKET.getMessage());
+
         responseUserInfo.setFullName(aes256Utils.decryptAES256(responseUserInfo.getFullName()));
         responseUserInfo.setEmail(aes256Utils.decryptAES256(responseUserInfo.getEmail()));
-        responseUserInfo.setRole(responseUserInfo.getRole());
-        responseUserInfo.setProfileImage(responseUserInfo.getProfileImage());
-        responseUserInfo.setSizeOfTicket(responseUserInfo.getSizeOfTicket());
-
-        schedulerAdminRepository.updateUserScheduleById(schedulerAdminId, progress);
 
         return responseUserInfo;
     }
 
+    /**
+     * 선택한 티켓들을 한 번에 승인하거나 거절합니다.
+     * 기획사 소유의 티켓만 한 번의 조회로 잠근 뒤, 승인 대기 중인 티켓만 한 번의 UPDATE 로 변경합니다.
+     * 팬의 티켓 수와 승인 현황 카운터도 각각 한 번의 UPDATE 로 반영합니다.
+     * @param loginUserId : 기획사 id
+     * @param ids : 결재할 티켓 id 목록
+     * @param progress : ACCEPT 또는 REFUSE
+     * @return 요청한 순서대로의 티켓별 처리 결과
+     */
+    @Transactional
+    public List<ConfirmResultDto> confirmSchedules(Long loginUserId, List<Long> ids, Progress progress) {
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, SchedulerUser> tickets = new HashMap<>();
+        for (SchedulerUser ticket : schedulerAdminRepository.findAllTicketsForUpdate(distinctIds, loginUserId))
+            tickets.put(ticket.getId(), ticket);
+
+        List<ConfirmResultDto> results = new ArrayList<>(distinctIds.size());
+        List<Long> waitingIds = new ArrayList<>();
+        Map<Long, Integer> countsByEvent = new HashMap<>(); // schedulerAdminId -> 결재된 티켓 수
+        for (Long id : distinctIds) {
+            SchedulerUser ticket = tickets.get(id);
+            ConfirmResult result;
+            if (ticket == null) result = ConfirmResult.NOT_FOUND;
+            else if (ticket.getProgress() == Progress.ACCEPT) result = ConfirmResult.ALREADY_ACCEPTED;
+            else if (ticket.getProgress() == Progress.REFUSE) result = ConfirmResult.ALREADY_REFUSED;
+            else {
+                result = ConfirmResult.CONFIRMED;
+                waitingIds.add(id);
+                countsByEvent.merge(ticket.getSchedulerAdmin().getId(), 1, Integer::sum);
+            }
+            results.add(new ConfirmResultDto(id, result));
+        }
+        if (waitingIds.isEmpty()) return results;
+
+        // 행을 잠근 상태이므로 승인 대기 건수와 변경 건수가 같음
+        schedulerAdminRepository.updateUserSchedulesByIdIn(waitingIds, progress);
+        if (progress == Progress.ACCEPT) userRepository.increaseUsedTicketsBySchedulerUserIdIn(waitingIds);
+        else userRepository.refundTicketsBySchedulerUserIdIn(waitingIds);
+        progressCountService.recordAll(loginUserId, countsByEvent, Progress.WAITING, progress);
+
+        return results;
+    }
+
     /**
      * 엑셀 파일을 다운받습니다.
+     * 티켓을 한 행씩 스트리밍으로 읽어 SXSSF 로 바로 응답에 쓰므로,
+     * 메모리에는 최근 EXCEL_ROW_WINDOW 행만 유지되고 나머지는 임시 파일로 내려갑니다.
+     * MySQL 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 행을 쓰는 동안 DB 를 조회하지 않아야 합니다.
+     * (작성자/행사는 fetch join 으로 함께 읽고, 이름/이메일 복호화는 UserIdentityCache 가 맡음)
      * @throws Exception : 에러
      */
+    @Transactional(readOnly = true) // 스트림 조회는 트랜잭션 안에서만 가능
     public void excelDownload(Long loginUserId) throws GeneralSecurityException, IllegalAccessException, IOException {
 
-        Workbook workbook = new XSSFWorkbook();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
         Sheet sheet = workbook.createSheet("티케팅 현황"); // 엑셀 시트 생성
         sheet.setDefaultColumnWidth(28); // 디폴트 너비 설정
 
@@ -548,8 +699,8 @@ public class SchedulerAdminService {
         Cell cell = null;
         int numberOfRow = 0;
 
-        // Header
-        List<Field> fields = Arrays.asList(SchedulerUser.class.getDeclaredFields());
+        // Header : 헤더와 바디가 같은 열 순서를 쓰도록 필드 목록은 한 번만 만듦
+        List<Field> fields = new ArrayList<>(Arrays.asList(SchedulerUser.class.getDeclaredFields()));
         fields.sort(Comparator.comparingInt(
                 field -> {
                     Column column = field.getAnnotation(Column.class);
@@ -557,6 +708,7 @@ public class SchedulerAdminService {
                         return column.columnDefinition().length();
                     else return 0;
                 }));
+        for (Field field : fields) field.setAccessible(true);
 
         row = sheet.createRow(numberOfRow++); // 행 추가
 
@@ -571,65 +723,127 @@ public class SchedulerAdminService {
         }
 
         // Body
-        for (SchedulerUser schedulerUser : getAllTicketsOfThisAdmin(loginUserId)) {
-            row = sheet.createRow(numberOfRow++); // 행 추가
-            index = 0;
-            for (Field field : schedulerUser.getClass().getDeclaredFields()) {
-                field.setAccessible(true);
-
-                cell = row.createCell(index); // 열 추가
-                if (field.get(schedulerUser) == null) cell.setCellValue("null");
-                if (field.get(schedulerUser) != null) { // 데이터 추가
-                    if (field.getName().equals("user")) {
-                        User user = (User)field.get(schedulerUser);
-                        cell.setCellValue(
-                                aes256Utils.decryptAES256(user.getFullName()) + " | " +
-                                aes256Utils.decryptAES256(user.getEmail())
-                        );
-                    } else if (field.getName().equals("schedulerAdmin")) {
-                        SchedulerAdmin schedulerAdmin = (SchedulerAdmin)field.get(schedulerUser);
-                        cell.setCellValue(
-                                "행사번호: " + schedulerAdmin.getId() +
-                                " | 제목: " + schedulerAdmin.getTitle() +
-                                " | 기간: " + DateUtils.toStringFormat(schedulerAdmin.getScheduleStart()) +
-                                "~ " + DateUtils.toStringFormat(schedulerAdmin.getScheduleEnd())
-                        );
-                    } else {
-                        cell.setCellValue(field.get(schedulerUser).toString());
+        try {
+            try (Stream<SchedulerUser> tickets = entityManager
+                    .createQuery(EXCEL_TICKET_QUERY, SchedulerUser.class)
+                    .setParameter("id", loginUserId)
+                    .setHint(QueryHints.HINT_FETCH_SIZE, excelFetchSize)
+                    .getResultStream()) {
+                Iterator<SchedulerUser> iterator = tickets.iterator();
+                while (iterator.hasNext()) {
+                    SchedulerUser schedulerUser = iterator.next();
+                    row = sheet.createRow(numberOfRow++); // 행 추가
+                    index = 0;
+                    for (Field field : fields) {
+                        Object value = field.get(schedulerUser);
+
+                        cell = row.createCell(index); // 열 추가
+                        if (value == null) cell.setCellValue("null");
+                        if (value != null) { // 데이터 추가
+                            if (field.getName().equals("user")) {
+                                UserIdentityCache.Identity identity = userIdentityCache.get((User)value);
+                                cell.setCellValue(identity.getFullName() + " | " + identity.getEmail());
+                            } else if (field.getName().equals("schedulerAdmin")) {
+                                SchedulerAdmin schedulerAdmin = (SchedulerAdmin)value;
+                                cell.setCellValue(
+                                        "행사번호: " + schedulerAdmin.getId() +
+                                        " | 제목: " + schedulerAdmin.getTitle() +
+                                        " | 기간: " + DateUtils.toStringFormat(schedulerAdmin.getScheduleStart()) +
+                                        "~ " + DateUtils.toStringFormat(schedulerAdmin.getScheduleEnd())
+                                );
+                            } else {
+                                cell.setCellValue(value.toString());
+                            }
+                        }
+                        cell.setCellStyle(bodyXssfCellStyle); // 바디 스타일 추가
+                        index++;
                     }
+                    // 이미 쓴 티켓이 영속성 컨텍스트에 쌓이지 않도록 주기적으로 비움
+                    if (numberOfRow % EXCEL_CLEAR_INTERVAL == 0) entityManager.clear();
                 }
-                cell.setCellStyle(bodyXssfCellStyle); // 바디 스타일 추가
-                index++;
             }
-        }
 
-        // 컨텐츠 타입과 파일명 지정
-        httpServletResponse.setContentType("ms-vnd/excel");
-        httpServletResponse.setHeader(
-                "Content-Disposition",
-                "attachment;filename=" + entityType.getName() + ".xlsx"
-        );
+            // 컨텐츠 타입과 파일명 지정
+            httpServletResponse.setContentType("ms-vnd/excel");
+            httpServletResponse.setHeader(
+                    "Content-Disposition",
+                    "attachment;filename=" + entityType.getName() + ".xlsx"
+            );
+
+            // Excel File Output
+            workbook.write(httpServletResponse.getOutputStream());
+        } finally {
+            workbook.dispose(); // 임시 파일 삭제
+            workbook.close();
+        }
+    }
 
-        // Excel File Output
-        workbook.write(httpServletResponse.getOutputStream());
-        workbook.close();
+    public List<SchedulerUser> getAllTicketsOfThisAdmin(Long id) {
+        return schedulerAdminRepository.findAllTicketsByAdminId(id);
     }
 
     /**
-     * 매년 1월 1일 사용자의 티켓은 12개로 초기화 됩니다.
+     * size + 1 개까지 조회한 결과로 페이지와 다음 커서를 만듭니다.
      */
-    @Scheduled(cron = "0 0 0 1 1 *", zone = "Asia/Seoul")
-    public void updateTicketEveryYear() {
-        System.out.println("1월 1일이 되어 티켓을 12개로 초기화합니다.");
-        userRepository.update12TicketsOfAllFans();
+    private SchedulerAdminPageDto toSchedulerAdminPageDto(
+            List<SchedulerAdmin> schedulers,
+            int size
+    ) throws GeneralSecurityException {
+
+        boolean hasNext = schedulers.size() > size;
+        List<SchedulerAdmin> page = hasNext ? schedulers.subList(0, size) : schedulers;
+
+        List<SchedulerAdminResponseDto> content = new ArrayList<>();
+        for (SchedulerAdmin scheduler : page) content.add(toSchedulerAdminResponseDto(scheduler));
+
+        return SchedulerAdminPageDto.builder()
+                .content(content)
+                .next(hasNext ? ScheduleCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
     }
 
-    public List<SchedulerUser> getAllTicketsOfThisAdmin(Long id) {
-        return schedulerAdminRepository.findAllTicketsByAdminId(id);
+    private SchedulerAdminResponseDto toSchedulerAdminResponseDto(
+            SchedulerAdmin scheduler
+    ) throws GeneralSecurityException {
+
+        UserResponse.UserDto responseUser = userIdentityCache.toUserDto(scheduler.getUser());
+
+        return SchedulerAdminResponseDto.builder()
+                .user(responseUser)
+                .id(scheduler.getId())
+                .scheduleStart(scheduler.getScheduleStart())
+                .scheduleEnd(scheduler.getScheduleEnd())
+                .title(scheduler.getTitle())
+                .description(scheduler.getDescription())
+                .image(scheduler.getImage())
+                .createdAt(scheduler.getCreatedAt())
+                .updatedAt(scheduler.getUpdatedAt())
+                .build();
     }
 
-    @Transactional
-    public void deleteImage(String fileName) {
-        amazonS3.deleteObject(new DeleteObjectRequest(userService.getBucketName(), fileName));
+    /**
+     * [from, to) 구간과 겹치는 일정을 (시작일, id) 순으로 조회합니다.
+     * 구간 인덱스로 id 를 찾은 뒤 해당 일정만 읽고, 인덱스 적재 전에는 DB 구간 조회를 사용합니다.
+     * @param userId : 기획사 id, null 이면 모든 기획사
+     */
+    private List<SchedulerAdmin> findOverlapping(Long userId, LocalDateTime from, LocalDateTime to) {
+
+        if (!scheduleIntervalIndex.isLoaded())
+            return userId == null
+                    ? schedulerAdminRepository.findAllOverlapping(from, to)
+                    : schedulerAdminRepository.findByUserIdOverlapping(userId, from, to);
+
+        List<Long> ids = scheduleIntervalIndex.findOverlapping(userId, from, to);
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        return schedulerAdminRepository.findAllWithUserByIdIn(ids);
+    }
+
+    /**
+     * 해당 달의 시작 시각(1일 00:00)을 반환합니다.
+     * 월별 조회는 [이번 달 시작, 다음 달 시작) 구간과 겹치는 일정을 찾습니다.
+     */
+    private LocalDateTime startOfMonth(YearMonth yearMonth) {
+        return yearMonth.atDay(1).atStartOfDay();
     }
 }
@@ -9,10 +9,17 @@ import org.springframework.data.annotation.CreatedDate;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 
 @Getter
 @Entity
-@Table(name = "scheduler_user_tb")
+@Table(
+        name = "scheduler_user_tb",
+        uniqueConstraints = {
+                // 팬은 한 달에 한 번만 신청할 수 있음
+                @UniqueConstraint(name = "uk_scheduler_user_user_month", columnNames = {"user_id", "bookingMonth"})
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -33,6 +40,10 @@ public class SchedulerUser {
     @Column(nullable = false)
     private LocalDateTime scheduleStart;
 
+    // scheduleStart 의 연월(yyyy-MM), 저장 시 채워짐
+    @Column(nullable = false, length = 7)
+    private String bookingMonth;
+
     @Enumerated(value = EnumType.STRING)
     @Builder.Default
     private Progress progress = Progress.WAITING;
@@ -44,6 +55,11 @@ public class SchedulerUser {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.bookingMonth = bookingMonthOf(scheduleStart);
+    }
+
+    public static String bookingMonthOf(LocalDateTime scheduleStart) {
+        return YearMonth.from(scheduleStart).toString();
     }
 
     @Builder
@@ -1,11 +1,10 @@
 package com.fastcampus.minischeduler.scheduleruser;
 
-import com.fastcampus.minischeduler.core.auth.jwt.JwtTokenProvider;
+import com.fastcampus.minischeduler.core.annotation.LoginUser;
 import com.fastcampus.minischeduler.core.exception.ErrorCode;
 import com.fastcampus.minischeduler.core.exception.Exception400;
 import com.fastcampus.minischeduler.core.exception.Exception403;
 import com.fastcampus.minischeduler.core.exception.Exception500;
-import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdmin;
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.SchedulerAdminResponseDto;
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminService;
 import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRequest.SchedulerUserRequestDto;
@@ -26,11 +25,10 @@ public class SchedulerUserController {
 
     private final SchedulerUserService schedulerUserService;
     private final SchedulerAdminService schedulerAdminService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 사용자전체 일정 조회페이지(메인) : 모든 기획사의 일정과 본인이 신청한 일정이 나옴
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param year : 년도
      * @param month : 달
      * @return  모든 기획사의 등록된 행사 + 본인이 신청한 티켓의 내용을 담은 Map 객체
@@ -39,7 +37,7 @@ public class SchedulerUserController {
      */
     @GetMapping("/schedule")
     public ResponseEntity<Map<String, Object>> getschedulerList(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month
     ) {
@@ -52,7 +50,6 @@ public class SchedulerUserController {
         if (month != null && (month < 1 || month > 12))
             throw new Exception400("month", ErrorCode.INVALID_MONTH.getMessage());
 
-        Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
         try {
             if (year != null && month != null) {
                 schedulerAdminResponseDtoList =
@@ -78,7 +75,7 @@ public class SchedulerUserController {
 
     /**
      * 공연 기획사별 검색 : 기획사이름으로 검색가능
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param keyword : 검색 키워드(기획사 이름)
      * @param year : 년도
      * @param month : 달
@@ -89,7 +86,7 @@ public class SchedulerUserController {
     @GetMapping("/schedule/search")
     public ResponseEntity<Map<String, Object>> searchSchedulerList(
             @RequestParam String keyword,
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month
     ) {
@@ -104,7 +101,6 @@ public class SchedulerUserController {
             List<SchedulerAdminResponseDto> schedulerAdminResponseDtoListFindByFullName
                     = schedulerAdminService.getSchedulerByFullName(keyword, year, month);
             List<SchedulerUserResponseDto> schedulerUserDtoList;
-            Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
 
             if (year != null && month != null) schedulerUserDtoList =
                     schedulerUserService.getSchedulerUserListByYearAndMonth(loginUserId, year, month);
@@ -123,30 +119,31 @@ public class SchedulerUserController {
 
     /**
      * 공연 상세보기 : 공연의 정보를 상세하게 봄
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param adminScheduleId : 선택한 공연의 id값
-     * @return 선택한 공연 정보가 담긴 SchedulerAdmin 반환
+     * @return 선택한 공연 정보가 담긴 SchedulerAdminResponseDto 반환 (ScheduleDetailCache 를 거침)
      * @throws Exception400 id값이 null이거나 0보다 작을경우 / id값에 해당하는 공연정보를 찾을 수 없을경우
+     * @throws Exception500 디코딩에 실패한 경우
      */
     @GetMapping("/schedule/{adminScheduleId}")
-    public ResponseEntity<SchedulerAdmin> scheduleDetail(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+    public ResponseEntity<SchedulerAdminResponseDto> scheduleDetail(
+            @LoginUser Long loginUserId,
             @PathVariable Long adminScheduleId
     ) {
 
         if (adminScheduleId == null || adminScheduleId <= 0)
             throw new Exception400("adminScheduleId", ErrorCode.INVALID_REQUEST.getMessage());
 
-        SchedulerAdmin schedulerAdmin = schedulerAdminService.getSchedulerAdminById(adminScheduleId);
-        if (schedulerAdmin == null)
-            throw new Exception400("schedulerAdmin", ErrorCode.EMPTY_SCHEDULE_INFO.getMessage());
-
-        return ResponseEntity.ok(schedulerAdmin);
+        try {
+            return ResponseEntity.ok(schedulerAdminService.getSchedulerById(adminScheduleId));
+        } catch (GeneralSecurityException gse) {
+            throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
+        }
     }
 
     /**
      * 티켓팅 등록 페이지 : 기획사가 등록한 공연 id로 공연을 찾아 user의 schedule을 등록함
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param schedulerUserDto : 팬이 등록하는 티켓팅 정보
      * @param schedulerAdminId : 기획사가 등록한 공연의 id값
      * @return 팬이 등록한 티켓팅 정보를 반환
@@ -156,52 +153,38 @@ public class SchedulerUserController {
     @PostMapping("/schedule/create")
     public ResponseEntity<SchedulerUserResponseDto> createUserScheduler(
             @RequestBody SchedulerUserRequestDto schedulerUserDto,
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestParam Long schedulerAdminId
     ) {
-        Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
-        int userTicketCount = schedulerUserService.getUserTicketCount(loginUserId);
-        if (userTicketCount > 1) {
-            if (!schedulerUserService.existingSchedulerInCurrentMonth(
-                    loginUserId,
-                    schedulerUserDto.getScheduleStart()
-            )) {
-                try {
-                    return ResponseEntity
-                            .ok(schedulerUserService.createSchedulerUser(
-                                    schedulerAdminId,
-                                    schedulerUserDto,
-                                    loginUserId
-                            ));
-                } catch (GeneralSecurityException gse) {
-                    throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
-                }
-            } else throw new Exception403(ErrorCode.INVALID_CREATE_SCHEDULE.getMessage());
-        } else throw new Exception403(ErrorCode.EMPTY_TICKET.getMessage());
+        // 월 1회 신청 확인과 티켓 차감은 서비스에서 처리하며, 위반하면 Exception403
+        try {
+            return ResponseEntity
+                    .ok(schedulerUserService.createSchedulerUser(
+                            schedulerAdminId,
+                            schedulerUserDto,
+                            loginUserId
+                    ));
+        } catch (GeneralSecurityException gse) {
+            throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
+        }
     }
 
     /**
      * 티켓팅 취소 : 사용자가 티케팅 내역을 취소함 취소시 티켓을 다시 1개 되돌려줌
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param id : 삭제하려는 티켓의 id
      * @return "티켓팅 취소 완료"
      * @throws Exception400 유효하지 않은 id값일 경우
-     * @throws Exception500 디코딩에 실패한 경우
      */
     @PostMapping("/schedule/cancel/{id}")
     public ResponseEntity<String> cancelScheduler(
             @PathVariable Long id,
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser Long loginUserId
     ) {
         if (id == null || id <= 0) throw new Exception400("id", ErrorCode.INVALID_ID.getMessage());
 
-        try {
-            Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
-            schedulerUserService.cancel(id, loginUserId);
+        schedulerUserService.cancel(id, loginUserId);
 
-            return ResponseEntity.ok("티켓팅 취소 완료");
-        } catch (GeneralSecurityException gse) {
-            throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
-        }
+        return ResponseEntity.ok("티켓팅 취소 완료");
     }
 }
@@ -1,13 +1,31 @@
 package com.fastcampus.minischeduler.scheduleruser;
 
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdmin;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 public interface SchedulerUserRepository extends JpaRepository<SchedulerUser, Long> {
 
+    @EntityGraph(attributePaths = {"user", "schedulerAdmin"})
     List<SchedulerUser> findByUserId(Long userId);
 
+    boolean existsByUserIdAndBookingMonth(Long userId, String bookingMonth);
+
+    @EntityGraph(attributePaths = "user")
     List<SchedulerUser> findBySchedulerAdmin(SchedulerAdmin schedulerAdmin);
+
+    /**
+     * 티켓을 조회하고 행을 잠급니다(SELECT ... FOR UPDATE).
+     * 취소하는 동안 기획사의 승인/거절로 progress 가 바뀌지 않게 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT su FROM SchedulerUser su WHERE su.id = :id") // 행사 행까지 잠그지 않도록 fetch join 하지 않음
+    Optional<SchedulerUser> findByIdForUpdate(@Param("id") Long id);
 }
@@ -1,13 +1,17 @@
 package com.fastcampus.minischeduler.scheduleruser;
 
-import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.core.exception.ErrorCode;
+import com.fastcampus.minischeduler.core.exception.Exception403;
+import com.fastcampus.minischeduler.scheduleradmin.ProgressCountService;
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdmin;
 import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminRepository;
 import com.fastcampus.minischeduler.scheduleruser.SchedulerUserResponse.SchedulerUserResponseDto;
 import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
 import com.fastcampus.minischeduler.user.UserRepository;
 import com.fastcampus.minischeduler.user.UserResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +28,8 @@ public class SchedulerUserService {
     private final SchedulerUserRepository schedulerUserRepository;
     private final SchedulerAdminRepository schedulerAdminRepository;
     private final UserRepository userRepository;
-    private final AES256Utils aes256Utils;
+    private final UserIdentityCache userIdentityCache;
+    private final ProgressCountService progressCountService;
 
     /**
      * token으로 사용자를 찾아 사용자가 작성한 모든 schedule을 반환합니다.
@@ -41,9 +46,7 @@ public class SchedulerUserService {
         List<SchedulerUserResponseDto> schedulerUserDtoList = new ArrayList<>();
 
         for (SchedulerUser schedulerUser : schedulerUsers) {
-            UserResponse.UserDto responseUser = new UserResponse.UserDto(schedulerUser.getUser());
-            responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-            responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+            UserResponse.UserDto responseUser = userIdentityCache.toUserDto(schedulerUser.getUser());
 
             SchedulerUserResponseDto schedulerUserDto =
                 SchedulerUserResponseDto.builder()
@@ -84,9 +87,7 @@ public class SchedulerUserService {
             LocalDateTime scheduleStart = schedulerUser.getScheduleStart();
             YearMonth scheduleYearMonth = YearMonth.of(scheduleStart.getYear(), scheduleStart.getMonth());
 
-            UserResponse.UserDto responseUser = new UserResponse.UserDto(schedulerUser.getUser());
-            responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-            responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+            UserResponse.UserDto responseUser = userIdentityCache.toUserDto(schedulerUser.getUser());
 
             if (yearMonth.equals(scheduleYearMonth)) {
 
@@ -106,7 +107,8 @@ public class SchedulerUserService {
     }
 
     /**
-     * schedule 등록 : token으로 사용자를 찾아 사용자의 티켓수를 감소시키고 내용을 저장합니다
+     * schedule 등록 : 사용자의 티켓수를 감소시키고 내용을 저장합니다
+     * 티켓이 없거나 같은 달에 이미 신청했다면 Exception403 을 던지고 트랜잭션이 롤백됩니다.
      * @param schedulerAdminId
      * @param loginUserId
      * @return SchedulerUserResponseDto
@@ -118,11 +120,15 @@ public class SchedulerUserService {
             Long loginUserId
     ) throws GeneralSecurityException {
 
+        if (existingSchedulerInCurrentMonth(loginUserId, schedulerUserRequestDto.getScheduleStart()))
+            throw new Exception403(ErrorCode.INVALID_CREATE_SCHEDULE.getMessage());
+
+        //유저의 티켓수 1차감 : 남은 티켓이 없으면 변경된 행이 없음
+        if (userRepository.decreaseTicket(loginUserId) == 0)
+            throw new Exception403(ErrorCode.EMPTY_TICKET.getMessage());
+
         User user = userRepository.findById(loginUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
-        //유저의 티켓수 1차감
-        int ticket = user.getSizeOfTicket() - 1;
-        user.setSizeOfTicket(ticket);
 
         SchedulerAdmin schedulerAdmin = schedulerAdminRepository.findById(schedulerAdminId)
                 .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다"));
@@ -134,11 +140,21 @@ public class SchedulerUserService {
                     .schedulerAdmin(schedulerAdmin)
                     .createdAt(schedulerUserRequestDto.getCreatedAt())
                     .build();
-        SchedulerUser saveSchedulerUser = schedulerUserRepository.save(schedulerUser);
+        // 동시에 같은 달을 신청한 경우 (user_id, booking_month) 유니크 제약으로 한 건만 저장됨
+        SchedulerUser saveSchedulerUser;
+        try {
+            saveSchedulerUser = schedulerUserRepository.saveAndFlush(schedulerUser);
+        } catch (DataIntegrityViolationException dive) {
+            throw new Exception403(ErrorCode.INVALID_CREATE_SCHEDULE.getMessage());
+        }
+        progressCountService.record(
+                schedulerAdmin.getId(),
+                schedulerAdmin.getUser().getId(),
+                null,
+                saveSchedulerUser.getProgress()
+        );
 
-        UserResponse.UserDto responseUser = new UserResponse.UserDto(saveSchedulerUser.getUser());
-        responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
-        responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
+        UserResponse.UserDto responseUser = userIdentityCache.toUserDto(saveSchedulerUser.getUser());
 
         return SchedulerUserResponseDto.builder()
                 .user(responseUser)
@@ -151,20 +167,7 @@ public class SchedulerUserService {
     }
 
     /**
-     * 사용자 티켓 수 확인
-     * @param loginUserId
-     * @return sizeOfTicket
-     */
-    public int getUserTicketCount(Long loginUserId) {
-
-        User user = userRepository.findById(loginUserId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
-
-        return user.getSizeOfTicket();
-    }
-
-    /**
-     * 한달에 한번만 신청할수 있게 사용자의 전체 신청내역 날짜와 비교함
+     * 한달에 한번만 신청할수 있게 같은 연월의 신청내역이 있는지 확인함
      * @param loginUserId
      * @param scheduleStart
      * @return boolean
@@ -173,40 +176,37 @@ public class SchedulerUserService {
             Long loginUserId,
             LocalDateTime scheduleStart
     ) {
-
-        List<SchedulerUser> schedulerUsers = schedulerUserRepository.findByUserId(loginUserId);
-        int year = scheduleStart.getYear();
-        int month = scheduleStart.getMonthValue();
-
-        for (SchedulerUser schedulerUser : schedulerUsers) {
-
-            LocalDateTime exitScheduleStart = schedulerUser.getScheduleStart();
-            int exitYear = exitScheduleStart.getYear();
-            int exitMonth = exitScheduleStart.getMonthValue();
-
-            if (month == exitMonth && year == exitYear) return true;
-        }
-        return false;
+        return schedulerUserRepository.existsByUserIdAndBookingMonth(
+                loginUserId,
+                SchedulerUser.bookingMonthOf(scheduleStart)
+        );
     }
 
     /**
      * token으로 사용자를 찾고 schedule의 id로 작성한 스케줄의 userId와 비교해 권한확인을 함
-     * 삭제되면 티켓수를 1개 다시 되돌려주고 삭제함
+     * 삭제되면 티켓수를 1개 다시 되돌려주고 삭제함 (거절된 티켓은 거절할 때 이미 되돌려줬으므로 제외)
+     * 티켓 행을 잠근 뒤 progress 를 읽으므로, 취소하는 동안 승인/거절되어 카운터가 어긋나지 않습니다.
      * @param userSchedulerId
      * @param loginUserId
      */
-    public void cancel(Long userSchedulerId, Long loginUserId) throws GeneralSecurityException {
-        User user = userRepository.findById(loginUserId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
-        SchedulerUserResponseDto schedulerUserDto = getSchedulerById(userSchedulerId);
-        if (!schedulerUserDto.getUser().getId().equals(loginUserId))
+    @Transactional
+    public void cancel(Long userSchedulerId, Long loginUserId) {
+        SchedulerUser schedulerUser = schedulerUserRepository.findByIdForUpdate(userSchedulerId).orElseThrow(
+                () -> new IllegalArgumentException("해당 티켓팅은 존재하지 않습니다.")
+        );
+        if (!schedulerUser.getUser().getId().equals(loginUserId))
             throw new IllegalStateException("스케줄을 삭제할 권한이 없습니다.");
 
-        //삭제하면 티켓수를 다시 되돌려줌
-        int ticket = user.getSizeOfTicket() + 1;
-        user.setSizeOfTicket(ticket);
+        Progress progress = schedulerUser.getProgress();
+        Long schedulerAdminId = schedulerUser.getSchedulerAdmin().getId();
+        Long agencyId = schedulerUser.getSchedulerAdmin().getUser().getId(); // increaseTicket 이 영속성 컨텍스트를 비우기 전에 읽음
+        schedulerUserRepository.delete(schedulerUser);
+
+        //삭제하면 티켓수를 다시 되돌려줌, 일괄 결재와 같은 순서(티켓 -> 팬 -> 카운터)로 잠금
+        if (progress != Progress.REFUSE && userRepository.increaseTicket(loginUserId) == 0)
+            throw new IllegalArgumentException("사용자 정보를 찾을 수 없습니다");
 
-        schedulerUserRepository.deleteById(userSchedulerId);
+        progressCountService.record(schedulerAdminId, agencyId, progress, null);
     }
 
     /**
@@ -220,9 +220,7 @@ public class SchedulerUserService {
                 () -> new IllegalArgumentException("해당 티켓팅은 존재하지 않습니다.")
         );
 
-        UserResponse.UserDto responseUser = new UserResponse.UserDto(schedulerUser.getUser());
-        responseUser.setFullName(aes256Utils.decryptAES256(responseUser.getFullName()));
-        responseUser.setEmail(aes256Utils.decryptAES256(responseUser.getEmail()));
+        UserResponse.UserDto responseUser = userIdentityCache.toUserDto(schedulerUser.getUser());
 
         return SchedulerUserResponseDto.builder()
                 .user(responseUser)
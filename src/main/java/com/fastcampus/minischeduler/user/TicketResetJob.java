@@ -0,0 +1,64 @@
+package com.fastcampus.minischeduler.user;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 연간 티켓 초기화 작업의 체크포인트입니다. 연도마다 한 행이며,
+ * lastUserId 까지 초기화가 커밋되었음을 뜻합니다. finishedAt 이 null 이면 진행 중입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "ticket_reset_job_tb")
+@Entity
+public class TicketResetJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Integer resetYear;
+
+    @Column(nullable = false)
+    private Long lastUserId;
+
+    @Column(nullable = false)
+    private Long maxUserId;
+
+    @Column(nullable = false)
+    private Long updatedCount;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public TicketResetJob(
+            Long id,
+            Integer resetYear,
+            Long lastUserId,
+            Long maxUserId,
+            Long updatedCount,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
+    ) {
+        this.id = id;
+        this.resetYear = resetYear;
+        this.lastUserId = lastUserId;
+        this.maxUserId = maxUserId;
+        this.updatedCount = updatedCount;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.minischeduler.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TicketResetJobRepository extends JpaRepository<TicketResetJob, Long> {
+
+    Optional<TicketResetJob> findByResetYear(Integer resetYear);
+
+    /**
+     * 체크포인트가 from 일 때만 to 로 옮깁니다. 다른 인스턴스가 먼저 옮겼다면 0 을 반환합니다.
+     */
+    @Modifying
+    @Query(
+            "UPDATE TicketResetJob j SET j.lastUserId = :to, j.updatedCount = j.updatedCount + :updatedCount " +
+            "WHERE j.id = :id AND j.lastUserId = :from"
+    )
+    int advance(
+            @Param("id") Long id,
+            @Param("from") Long from,
+            @Param("to") Long to,
+            @Param("updatedCount") long updatedCount
+    );
+
+    @Modifying
+    @Query("UPDATE TicketResetJob j SET j.finishedAt = :finishedAt WHERE j.id = :id AND j.finishedAt IS NULL")
+    int finish(@Param("id") Long id, @Param("finishedAt") LocalDateTime finishedAt);
+}
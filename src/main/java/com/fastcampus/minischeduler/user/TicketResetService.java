@@ -0,0 +1,134 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.core.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 매년 1월 1일 팬의 티켓을 12개로 초기화합니다.
+ * user_tb 전체를 한 번에 갱신하지 않고 id 범위(chunk-size)마다 따로 커밋하며,
+ * 커밋할 때마다 체크포인트(ticket_reset_job_tb)를 옮기므로 중간에 멈춰도 이어서 진행합니다.
+ * 오래 걸리는 작업이므로 스케줄러 스레드나 기동 이벤트 스레드를 붙잡지 않도록 batch 풀에서 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketResetService {
+
+    public static final int TICKETS_PER_YEAR = 12;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int PROGRESS_LOG_INTERVAL = 100; // chunk 단위
+
+    private final UserRepository userRepository;
+    private final TicketResetJobRepository ticketResetJobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${my-env.ticket-reset.chunk-size:1000}")
+    private int chunkSize;
+
+    @Async(AsyncConfig.BATCH_TASK_EXECUTOR)
+    @Scheduled(cron = "0 0 0 1 1 *", zone = "Asia/Seoul")
+    public void resetEveryYear() {
+        reset(LocalDateTime.now(ZONE).getYear());
+    }
+
+    /**
+     * 올해 초기화가 끝나지 않은 채로 종료되었다면 기동 시 이어서 진행합니다.
+     */
+    @Async(AsyncConfig.BATCH_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIfUnfinished() {
+
+        int year = LocalDateTime.now(ZONE).getYear();
+        ticketResetJobRepository.findByResetYear(year)
+                .filter(job -> !job.isFinished())
+                .ifPresent(job -> {
+                    log.info("{}년 티켓 초기화를 user id {} 부터 이어서 진행합니다", year, job.getLastUserId());
+                    reset(year);
+                });
+    }
+
+    /**
+     * year 의 티켓 초기화를 체크포인트부터 끝까지 진행합니다. 이미 끝났다면 아무것도 하지 않습니다.
+     * @param year : 초기화 연도
+     */
+    public void reset(int year) {
+
+        TicketResetJob job = findOrCreateJob(year);
+        if (job.isFinished()) return;
+
+        long startedAt = System.currentTimeMillis();
+        long from = job.getLastUserId();
+        long maxUserId = job.getMaxUserId();
+        long updated = job.getUpdatedCount();
+        int chunks = 0;
+
+        while (from < maxUserId) {
+            long to = Math.min(from + chunkSize, maxUserId);
+            Integer count = resetChunk(job.getId(), from, to);
+            if (count == null) {
+                log.info("{}년 티켓 초기화를 다른 인스턴스가 진행 중입니다", year);
+                return;
+            }
+
+            updated += count;
+            from = to;
+            if (++chunks % PROGRESS_LOG_INTERVAL == 0)
+                log.info("{}년 티켓 초기화 진행 : user id {}/{}, {}명", year, from, maxUserId, updated);
+        }
+
+        transactionTemplate.executeWithoutResult(
+                status -> ticketResetJobRepository.finish(job.getId(), LocalDateTime.now(ZONE))
+        );
+        log.info(
+                "{}년 티켓 초기화 완료 : {}명, {}ms",
+                year, updated, System.currentTimeMillis() - startedAt
+        );
+    }
+
+    /**
+     * (from, to] 범위를 초기화하고 체크포인트를 to 로 옮깁니다. 둘은 한 트랜잭션으로 커밋됩니다.
+     * @return 초기화된 팬 수, 체크포인트가 이미 옮겨졌다면 null
+     */
+    private Integer resetChunk(Long jobId, long from, long to) {
+
+        return transactionTemplate.execute(status -> {
+            int count = userRepository.resetTicketsOfFansInRange(from, to, TICKETS_PER_YEAR);
+            if (ticketResetJobRepository.advance(jobId, from, to, count) == 0) {
+                status.setRollbackOnly();
+                return null;
+            }
+            return count;
+        });
+    }
+
+    private TicketResetJob findOrCreateJob(int year) {
+
+        return ticketResetJobRepository.findByResetYear(year).orElseGet(() -> {
+            try {
+                return ticketResetJobRepository.saveAndFlush(
+                        TicketResetJob.builder()
+                                .resetYear(year)
+                                .lastUserId(0L)
+                                .maxUserId(userRepository.findMaxId()) // 이후 가입한 팬은 가입 시 티켓을 받음
+                                .updatedCount(0L)
+                                .startedAt(LocalDateTime.now(ZONE))
+                                .build()
+                );
+            } catch (DataIntegrityViolationException dive) { // 다른 인스턴스가 먼저 만든 경우
+                return ticketResetJobRepository.findByResetYear(year).orElseThrow();
+            }
+        });
+    }
+}
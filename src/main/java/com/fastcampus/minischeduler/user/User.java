@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@Table(name = "user_tb")
+@Table(
+        name = "user_tb",
+        indexes = @Index(name = "idx_user_role_id", columnList = "role, id") // 관리자 회원 목록의 권한별 키셋 페이징
+)
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
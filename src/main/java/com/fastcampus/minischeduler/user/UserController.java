@@ -1,5 +1,6 @@
 package com.fastcampus.minischeduler.user;
 
+import com.fastcampus.minischeduler.core.annotation.LoginUser;
 import com.fastcampus.minischeduler.core.annotation.MyErrorLog;
 import com.fastcampus.minischeduler.core.annotation.MyLog;
 import com.fastcampus.minischeduler.core.auth.jwt.JwtTokenProvider;
@@ -28,19 +29,17 @@ public class UserController {
     private final AES256Utils aes256Utils;
 
     private final UserService userService;
-    private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
 
     /**
      * 사용자 정보 : token으로 사용자 정보를 반환
-     * @param token : 사용자 인증 토큰
+     * @param response : 로그인 사용자 정보
      * @return 사용자 정보 반환
      * @throws Exception500 디코딩에 실패한 경우
      */
     @GetMapping("/api")
-    public ResponseEntity<?> api(@RequestHeader(JwtTokenProvider.HEADER) String token) {
+    public ResponseEntity<?> api(@LoginUser UserResponse.UserDto response) {
 
-        UserResponse.UserDto response = jwtTokenProvider.getUserInfo(token);
         try {
             response.setEmail(aes256Utils.decryptAES256(response.getEmail()));
             response.setFullName(aes256Utils.decryptAES256(response.getFullName()));
@@ -124,7 +123,7 @@ public class UserController {
 
     /**
      * 마이페이지 : 사용자가 설정한 정보 확인
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param role : 사용자의 권한
      * @return 권한 확인후 사용자의 정보를 반환
      * @throws Exception400 권한을 입력하지 않은 경우
@@ -134,9 +133,8 @@ public class UserController {
     @GetMapping("/mypage")
     public ResponseEntity<?> getUserInfo(
             @RequestParam(required = false) String role,
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser Long loginUserId
     ) {
-        Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
 
         if (role == null || role.isBlank())
             throw new Exception400("role", ErrorCode.EMPTY_ROLE_ADMIN_OR_FAN.getMessage());
@@ -154,17 +152,17 @@ public class UserController {
 
     /**
      * 사용자 정보 수정 페이지 : 사용자가 설정한 정보 수정
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @return 사용자가 수정한 사용자 정보를 반환
      * @throws Exception500 디코딩에 실패한 경우
      */
     @GetMapping("/mypage/update")
     public ResponseEntity<?> getUpdateUserInfo(
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser Long loginUserId
     ) {
         try {
             return ResponseEntity.ok(
-                    new ResponseDTO<>(userService.getUserInfo(jwtTokenProvider.getUserIdFromToken(token)))
+                    new ResponseDTO<>(userService.getUserInfo(loginUserId))
             );
         } catch (GeneralSecurityException gse) {
             throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
@@ -173,14 +171,14 @@ public class UserController {
 
     /**
      * 사용자 정보 업데이트
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param updateUserInfoDTO : 사용자가 변경하려는 정보
      * @return 사용자가 수정한 사용자 정보를 반환
      * @throws Exception500 디코딩에 실패한 경우
      */
     @PostMapping("/mypage/update")
     public ResponseEntity<?> postUpdateUserInfo(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestBody @Valid UserRequest.UpdateUserInfoDTO updateUserInfoDTO
     ) {
         try {
@@ -188,7 +186,7 @@ public class UserController {
                     new ResponseDTO<>(
                             userService.updateUserInfo(
                                     updateUserInfoDTO,
-                                    jwtTokenProvider.getUserIdFromToken(token)
+                                    loginUserId
                             )
                     )
             );
@@ -199,17 +197,16 @@ public class UserController {
 
     /**
      * 프로필 이미지 등록과 변경 : 프로필 이미지를 등록하거나 변경가능 미등록시 디폴트 이미지로 설정
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @param file : 프로필 이미지
      * @return 사용자 정보를 반환
      * @throws Exception500 디코딩에 실패한 경우 / 이미지 파일 전송에 실패한 경우
      */
     @PostMapping("/mypage/update/image")
     public ResponseEntity<?> postUpdateUserProfileImage(
-            @RequestHeader(JwtTokenProvider.HEADER) String token,
+            @LoginUser Long loginUserId,
             @RequestParam("file") MultipartFile file
     ) {
-        Long loginUserId = jwtTokenProvider.getUserIdFromToken(token);
 
         // 이미지 파일을 넣지 않았을경우 디폴트 이미지로 변경 필요.
         if (file.isEmpty()) {
@@ -235,17 +232,17 @@ public class UserController {
 
     /**
      * 프로필 이미지를 삭제 : 프로필 이미지 삭제
-     * @param token : 사용자 인증 토큰
+     * @param loginUserId : 로그인 사용자 id
      * @return 사용자 정보를 반환
      * @throws Exception500 디코딩에 실패한 경우
      */
     @PostMapping("/mypage/delete/image")
     public ResponseEntity<?> postDeleteUserProfileImage(
-            @RequestHeader(JwtTokenProvider.HEADER) String token
+            @LoginUser Long loginUserId
     ) {
         try {
             return ResponseEntity.ok(
-                    new ResponseDTO<>(userService.deleteUserProfileImage(jwtTokenProvider.getUserIdFromToken(token)))
+                    new ResponseDTO<>(userService.deleteUserProfileImage(loginUserId))
             );
         } catch (GeneralSecurityException gse) {
             throw new Exception500(ErrorCode.FAIL_DECODING.getMessage());
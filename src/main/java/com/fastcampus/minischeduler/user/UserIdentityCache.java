@@ -0,0 +1,98 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.core.utils.LruCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 복호화된 사용자 이름/이메일 캐시입니다.
+ * 사용자 id 와 updatedAt(버전)을 함께 비교하므로, 정보가 수정된 사용자는 다음 조회 시 다시 복호화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdentityCache {
+
+    private final AES256Utils aes256Utils;
+
+    @Value("${my-env.identity-cache.max-size:10000}")
+    private int maxSize;
+
+    private LruCache<Long, Identity> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * 사용자의 복호화된 이름/이메일을 반환합니다.
+     * @param user : 암호화된 이름/이메일을 가진 사용자 엔티티
+     */
+    public Identity get(User user) throws GeneralSecurityException {
+        return get(user.getId(), user.getUpdatedAt(), user.getFullName(), user.getEmail());
+    }
+
+    /**
+     * 엔티티 없이 암호화된 값만 가지고 있을 때(예: 외부 캐시에 저장된 값) 복호화된 이름/이메일을 반환합니다.
+     * @param version : 사용자의 updatedAt
+     */
+    public Identity get(
+            Long userId,
+            LocalDateTime version,
+            String encryptedFullName,
+            String encryptedEmail
+    ) throws GeneralSecurityException {
+
+        Identity identity = cache.get(userId);
+        if (identity != null && Objects.equals(identity.version, version)) return identity;
+
+        identity = new Identity(
+                version,
+                aes256Utils.decryptAES256(encryptedFullName),
+                aes256Utils.decryptAES256(encryptedEmail)
+        );
+        cache.put(userId, identity);
+
+        return identity;
+    }
+
+    /**
+     * 이름/이메일이 복호화된 UserDto 를 만듭니다.
+     */
+    public UserResponse.UserDto toUserDto(User user) throws GeneralSecurityException {
+
+        Identity identity = get(user);
+
+        UserResponse.UserDto userDto = new UserResponse.UserDto(user);
+        userDto.setFullName(identity.getFullName());
+        userDto.setEmail(identity.getEmail());
+
+        return userDto;
+    }
+
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    @Getter
+    public static class Identity {
+
+        private final LocalDateTime version;
+        private final String fullName;
+        private final String email;
+
+        private Identity(LocalDateTime version, String fullName, String email) {
+            this.version = version;
+            this.fullName = fullName;
+            this.email = email;
+        }
+    }
+}
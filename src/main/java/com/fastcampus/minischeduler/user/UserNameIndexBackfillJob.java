@@ -0,0 +1,105 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.core.config.AsyncConfig;
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.core.utils.BlindIndexUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 사용자의 이름 토큰(user_name_token_tb)을 채우는 일회성 작업입니다.
+ * my-env.blind-index.backfill=true 로 기동한 인스턴스에서만 실행되며, 기동을 막지 않도록 batch 풀에서 진행합니다.
+ * id 범위(chunk-size)마다 토큰이 없는 사용자만 골라 따로 커밋하므로, 중간에 멈추거나 여러 번 실행해도 이어서 채웁니다.
+ * 다른 인스턴스나 회원가입이 같은 사용자를 먼저 저장하면 유니크 키 충돌로 해당 범위를 롤백하고 다시 고릅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNameIndexBackfillJob {
+
+    private static final int MAX_RETRY = 3;
+
+    private final UserRepository userRepository;
+    private final UserNameTokenRepository userNameTokenRepository;
+    private final BlindIndexUtils blindIndexUtils;
+    private final AES256Utils aes256Utils;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${my-env.blind-index.backfill:false}")
+    private boolean enabled;
+
+    @Value("${my-env.blind-index.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    @Async(AsyncConfig.BATCH_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void runIfEnabled() {
+        if (enabled) run();
+    }
+
+    /**
+     * 토큰이 없는 모든 사용자의 이름 토큰을 저장합니다.
+     * @return 토큰을 저장한 사용자 수
+     */
+    public long run() {
+
+        long startedAt = System.currentTimeMillis();
+        long maxUserId = userRepository.findMaxId();
+        long indexed = 0;
+
+        for (long from = 0; from < maxUserId; from += chunkSize) {
+            indexed += indexChunk(from, Math.min(from + chunkSize, maxUserId));
+        }
+
+        log.info("사용자 이름 인덱스 백필 완료 : {}명, {}ms", indexed, System.currentTimeMillis() - startedAt);
+        return indexed;
+    }
+
+    private int indexChunk(long from, long to) {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer count = transactionTemplate.execute(status -> {
+                    List<User> users = userRepository.findNotNameIndexedInRange(from, to);
+                    userNameTokenRepository.saveAll(tokensOf(users));
+                    return users.size();
+                });
+                return count == null ? 0 : count;
+            } catch (DataIntegrityViolationException dive) {
+                if (attempt == MAX_RETRY) throw dive;
+                log.info("사용자 이름 인덱스 백필 충돌, 다시 시도합니다 : user id ({}, {}]", from, to);
+            }
+        }
+    }
+
+    private List<UserNameToken> tokensOf(List<User> users) {
+
+        List<String> encryptedNames = new ArrayList<>(users.size());
+        for (User user : users) encryptedNames.add(user.getFullName());
+
+        List<String> fullNames;
+        try {
+            fullNames = aes256Utils.decryptAll(encryptedNames);
+        } catch (GeneralSecurityException gse) {
+            throw new IllegalStateException(gse);
+        }
+
+        List<UserNameToken> tokens = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            for (String token : blindIndexUtils.indexTokensOf(fullNames.get(i)))
+                tokens.add(UserNameToken.builder().userId(users.get(i).getId()).token(token).build());
+        }
+        return tokens;
+    }
+}
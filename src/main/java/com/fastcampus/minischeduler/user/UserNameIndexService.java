@@ -0,0 +1,49 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.core.utils.BlindIndexUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 이름 블라인드 인덱스(user_name_token_tb)를 관리하고 검색 후보를 찾습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserNameIndexService {
+
+    private final UserNameTokenRepository userNameTokenRepository;
+    private final BlindIndexUtils blindIndexUtils;
+
+    /**
+     * 사용자의 이름 토큰을 새로 저장합니다. 회원가입과 이름 변경 시 호출합니다.
+     * @param userId        : 사용자 id
+     * @param plainFullName : 복호화된(평문) 이름
+     */
+    @Transactional
+    public void index(Long userId, String plainFullName) {
+
+        userNameTokenRepository.deleteByUserId(userId);
+
+        List<UserNameToken> tokens = new ArrayList<>();
+        for (String token : blindIndexUtils.indexTokensOf(plainFullName))
+            tokens.add(UserNameToken.builder().userId(userId).token(token).build());
+        userNameTokenRepository.saveAll(tokens);
+    }
+
+    /**
+     * 이름에 keyword 가 포함될 수 있는 사용자 id 를 조회합니다.
+     * 토큰 일치는 후보일 뿐이므로 호출하는 쪽에서 복호화한 이름으로 한번 더 확인해야 합니다.
+     * @param keyword : 공백이 아닌 검색어
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findCandidateUserIds(String keyword) {
+
+        Set<String> tokens = blindIndexUtils.queryTokensOf(keyword);
+        return userNameTokenRepository.findUserIdsHavingAllTokens(tokens, tokens.size());
+    }
+}
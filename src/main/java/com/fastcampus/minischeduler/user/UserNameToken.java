@@ -0,0 +1,43 @@
+package com.fastcampus.minischeduler.user;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 사용자 이름(fullName)의 블라인드 인덱스 토큰
+ * 암호화된 이름을 전부 복호화하지 않고 토큰 일치로 검색 후보를 찾기 위해 사용합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(
+        name = "user_name_token_tb",
+        uniqueConstraints = @UniqueConstraint( // 같은 사용자의 토큰이 중복 저장되지 않도록 함 (백필과 가입이 겹치는 경우)
+                name = "uk_user_name_token_token_user",
+                columnNames = {"token", "userId"}
+        ),
+        indexes = @Index(name = "idx_user_name_token_user", columnList = "userId")
+)
+@Entity
+public class UserNameToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 16)
+    private String token;
+
+    @Builder
+    public UserNameToken(Long id, Long userId, String token) {
+        this.id = id;
+        this.userId = userId;
+        this.token = token;
+    }
+}
@@ -0,0 +1,32 @@
+package com.fastcampus.minischeduler.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserNameTokenRepository extends JpaRepository<UserNameToken, Long> {
+
+    @Modifying
+    @Query("DELETE FROM UserNameToken t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주어진 토큰을 모두 가진 사용자 id 를 조회합니다.
+     * @param tokens : 검색어의 토큰
+     * @param count  : tokens 의 크기
+     */
+    @Query(
+            "SELECT t.userId FROM UserNameToken t " +
+            "WHERE t.token IN :tokens " +
+            "GROUP BY t.userId " +
+            "HAVING COUNT(DISTINCT t.token) = :count"
+    )
+    List<Long> findUserIdsHavingAllTokens(
+            @Param("tokens") Collection<String> tokens,
+            @Param("count") long count
+    );
+}
@@ -1,9 +1,11 @@
 package com.fastcampus.minischeduler.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +14,115 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> findByEmail(@Param("email") String email);
 
-    @Query("UPDATE User AS u SET u.sizeOfTicket = 12 WHERE u.role = 'USER'")
-    void update12TicketsOfAllFans();
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    Long findMaxId();
+
+    /**
+     * (fromId, toId] 범위에서 이름 토큰(user_name_token_tb)이 없는 사용자를 조회합니다.
+     */
+    @Query(
+            "SELECT u FROM User u " +
+            "WHERE u.id > :fromId AND u.id <= :toId " +
+            "AND NOT EXISTS (SELECT t.id FROM UserNameToken t WHERE t.userId = u.id)"
+    )
+    List<User> findNotNameIndexedInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * (fromId, toId] 범위 팬의 티켓을 tickets 개로 초기화합니다.
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.sizeOfTicket = :tickets " +
+            "WHERE u.id > :fromId AND u.id <= :toId AND u.role = com.fastcampus.minischeduler.user.Role.USER"
+    )
+    int resetTicketsOfFansInRange(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("tickets") int tickets
+    );
+
+    /**
+     * 티켓이 남아 있을 때만 1장 차감합니다. 조건과 차감이 한 문장으로 실행되므로 동시에 신청해도 음수가 되지 않습니다.
+     * @return 변경된 행 수 : 0 이면 티켓이 없거나 사용자가 없음
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.sizeOfTicket = u.sizeOfTicket - 1 WHERE u.id = :id AND u.sizeOfTicket > 0")
+    int decreaseTicket(@Param("id") Long id);
+
+    /**
+     * 티켓 1장을 되돌려줍니다.
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.sizeOfTicket = u.sizeOfTicket + 1 WHERE u.id = :id")
+    int increaseTicket(@Param("id") Long id);
+
+    /**
+     * 행사(schedulerAdminId)를 신청한 팬들에게 신청 건수만큼 티켓을 되돌려줍니다.
+     * 거절된 신청은 거절할 때 이미 되돌려줬으므로 제외합니다.
+     * MySQL 8.0.21 미만은 단일 테이블 UPDATE 의 IN 서브쿼리를 semi-join 으로 바꾸지 못해 사용자 테이블 전체를 훑으므로,
+     * MySQL 에서는 refundTicketsBySchedulerAdminIdWithJoin 을 사용합니다. (my-env.ticket-refund.join-update)
+     * @return 변경된 사용자 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "UPDATE User u SET u.sizeOfTicket = u.sizeOfTicket + (" +
+                    "SELECT COUNT(su) FROM SchedulerUser su " +
+                    "WHERE su.user = u AND su.schedulerAdmin.id = :schedulerAdminId " +
+                    "AND su.progress <> com.fastcampus.minischeduler.scheduleruser.Progress.REFUSE" +
+            ") " +
+            "WHERE u.id IN (" +
+                    "SELECT su.user.id FROM SchedulerUser su " +
+                    "WHERE su.schedulerAdmin.id = :schedulerAdminId " +
+                    "AND su.progress <> com.fastcampus.minischeduler.scheduleruser.Progress.REFUSE" +
+            ")"
+    )
+    int refundTicketsBySchedulerAdminId(@Param("schedulerAdminId") Long schedulerAdminId);
+
+    /**
+     * refundTicketsBySchedulerAdminId 의 MySQL 전용(UPDATE ... JOIN) 버전입니다.
+     * 행사의 신청을 팬별로 집계한 뒤 해당 팬의 행만 PK 로 찾아 갱신하므로 MySQL 버전과 관계없이 사용자 테이블을 훑지 않습니다.
+     * @return 변경된 사용자 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value =
+            "UPDATE user_tb AS u " +
+            "INNER JOIN (" +
+                    "SELECT su.user_id, COUNT(*) AS refund " +
+                    "FROM scheduler_user_tb AS su " +
+                    "WHERE su.scheduler_admin_id = :schedulerAdminId AND su.progress <> 'REFUSE' " +
+                    "GROUP BY su.user_id" +
+            ") AS r ON r.user_id = u.id " +
+            "SET u.size_of_ticket = u.size_of_ticket + r.refund",
+            nativeQuery = true)
+    int refundTicketsBySchedulerAdminIdWithJoin(@Param("schedulerAdminId") Long schedulerAdminId);
+
+    /**
+     * 티켓(schedulerUserIds)을 신청한 팬들에게 건수만큼 티켓을 되돌려줍니다. 거절 시 사용합니다.
+     * @return 변경된 사용자 수
+     */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.sizeOfTicket = u.sizeOfTicket + (" +
+                    "SELECT COUNT(su) FROM SchedulerUser su WHERE su.user = u AND su.id IN :ids" +
+            ") " +
+            "WHERE u.id IN (SELECT su.user.id FROM SchedulerUser su WHERE su.id IN :ids)"
+    )
+    int refundTicketsBySchedulerUserIdIn(@Param("ids") Collection<Long> schedulerUserIds);
+
+    /**
+     * 티켓(schedulerUserIds)을 신청한 팬들의 사용 티켓 수를 건수만큼 늘립니다. 승인 시 사용합니다.
+     * @return 변경된 사용자 수
+     */
+    @Modifying
+    @Query(
+            "UPDATE User u SET u.usedTicket = u.usedTicket + (" +
+                    "SELECT COUNT(su) FROM SchedulerUser su WHERE su.user = u AND su.id IN :ids" +
+            ") " +
+            "WHERE u.id IN (SELECT su.user.id FROM SchedulerUser su WHERE su.id IN :ids)"
+    )
+    int increaseUsedTicketsBySchedulerUserIdIn(@Param("ids") Collection<Long> schedulerUserIds);
 
     @Query(value =
             "SELECT " +
@@ -44,19 +153,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
             nativeQuery = true)
     Integer countAdminScheduleRegisteredEvent(@Param("id") Long id);
 
-    @Query(value =
-            "SELECT SUM(T.WAITING) AS WAITING, SUM(T.ACCEPTED) AS ACCEPTED, SUM(T.REFUSED) AS REFUSED " +
-                    "FROM (" +
-                    "SELECT " +
-                    "CASE WHEN su.progress = 'WAITING' THEN COUNT(su.progress) END AS WAITING, " +
-                    "CASE WHEN su.progress = 'ACCEPT' THEN COUNT(su.progress) END AS ACCEPTED, " +
-                    "CASE WHEN su.progress = 'REFUSE' THEN COUNT(su.progress) END AS REFUSED " +
-                    "FROM scheduler_user_tb AS su " +
-                    "INNER JOIN scheduler_admin_tb AS sa ON sa.id = su.scheduler_admin_id " +
-                    "WHERE sa.user_id = :id GROUP BY su.progress" +
-                    ") AS T",
-            nativeQuery = true
-    )
-    UserResponse.GetRoleAdminCountProgressDTO countAllScheduleUserProgressByAdminId(@Param("id") Long id);
-
 }
@@ -1,10 +1,12 @@
 package com.fastcampus.minischeduler.user;
 
+import com.fastcampus.minischeduler.image.ImageVariant;
 import com.fastcampus.minischeduler.scheduleruser.Progress;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class UserResponse {
 
@@ -25,6 +27,11 @@ public class UserResponse {
             this.role = user.getRole();
             this.profileImage = user.getProfileImage();
         }
+
+        // thumbnail / list / detail 리사이즈 이미지 url
+        public Map<String, String> getProfileImageVariants() {
+            return ImageVariant.urlsOf(profileImage);
+        }
     }
 
     @Getter
@@ -65,6 +72,11 @@ public class UserResponse {
             this.profileImage = user.getProfileImage();
             this.role = user.getRole();
         }
+
+        // thumbnail / list / detail 리사이즈 이미지 url
+        public Map<String, String> getProfileImageVariants() {
+            return ImageVariant.urlsOf(profileImage);
+        }
     }
 
     @Data
@@ -97,6 +109,11 @@ public class UserResponse {
             this.role = user.getRole();
             this.profileImage = user.getProfileImage();
         }
+
+        // thumbnail / list / detail 리사이즈 이미지 url
+        public Map<String, String> getProfileImageVariants() {
+            return ImageVariant.urlsOf(profileImage);
+        }
     }
 
     @Getter
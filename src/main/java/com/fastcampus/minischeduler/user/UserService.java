@@ -1,15 +1,15 @@
 package com.fastcampus.minischeduler.user;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.*;
 import com.fastcampus.minischeduler.core.auth.jwt.JwtTokenProvider;
 import com.fastcampus.minischeduler.core.auth.session.MyUserDetails;
 import com.fastcampus.minischeduler.core.utils.AES256Utils;
-import com.fastcampus.minischeduler.log.LoginLog;
-import com.fastcampus.minischeduler.log.LoginLogRepository;
+import com.fastcampus.minischeduler.image.ImageService;
+import com.fastcampus.minischeduler.log.LoginLogWriter;
+import com.fastcampus.minischeduler.manager.ManagerUserPageCache;
+import com.fastcampus.minischeduler.scheduleradmin.ProgressCountService;
+import com.fastcampus.minischeduler.scheduleradmin.ScheduleDetailCache;
 import com.fastcampus.minischeduler.user.UserResponse.GetUserInfoDTO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -30,22 +30,18 @@ public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
 
     private final UserRepository userRepository;
-    private final LoginLogRepository loginLogRepository;
+    private final UserNameIndexService userNameIndexService;
+    private final UserIdentityCache userIdentityCache;
+    private final ManagerUserPageCache managerUserPageCache;
+    private final LoginLogWriter loginLogWriter;
+    private final ProgressCountService progressCountService;
+    private final ScheduleDetailCache scheduleDetailCache;
     private final HttpServletRequest httpServletRequest;
 
-    // Aws s3
-    private final AmazonS3 amazonS3;
-
-    //aws s3 버킷 이름.
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final ImageService imageService;
 
     private final String DEFAULT_IMAGE = "https://miniproject12storage.s3.ap-northeast-2.amazonaws.com/default.jpg";
 
-    public String getBucketName() {
-        return this.bucketName;
-    }
-
     /**
      * 회원가입 메서드입니다.
      * Controller에서 유효성 검사가 완료된 DTO를 받아 비밀번호를 BCrypt 인코딩 후 사용자 정보 테이블(user_tb)에 저장합니다.
@@ -58,12 +54,14 @@ public class UserService {
             MultipartFile image
     ) throws GeneralSecurityException, IOException {
 
+        String plainFullName = request.getFullName();
+
         // 인코딩 및 사진 추가
         request.setPassword(passwordEncoder.encode(request.getPassword()));
         request.setEmail(aes256Utils.encryptAES256(request.getEmail()));
         request.setFullName(aes256Utils.encryptAES256(request.getFullName()));
         if (image != null)
-            request.setProfileImage(uploadImageToS3(image));
+            request.setProfileImage(imageService.upload(image));
         if (image == null)
             request.setProfileImage(DEFAULT_IMAGE);
 
@@ -74,6 +72,10 @@ public class UserService {
         if (userPS.getRole().equals(Role.USER)) userPS.setSizeOfTicket(12 - Calendar.getInstance().get(Calendar.MONTH));
         if (userPS.getRole().equals(Role.ADMIN)) userPS.setSizeOfTicket(0);
 
+        // 이름 검색용 블라인드 인덱스
+        userNameIndexService.index(userPS.getId(), plainFullName);
+        managerUserPageCache.invalidateAfterCommit(); // 관리자 회원 목록/회원 수 갱신
+
         UserResponse.JoinDTO response = new UserResponse.JoinDTO(userPS);
         response.setFullName(aes256Utils.decryptAES256(response.getFullName()));
         response.setEmail(aes256Utils.decryptAES256(response.getEmail()));
@@ -95,20 +97,19 @@ public class UserService {
         // 최종 로그인 날짜 기록
         loginUser.onUpdateLatestLogin();
 
-        // 로그 테이블 기록
-        loginLogRepository.save(
-                LoginLog.builder()
-                        .userId(loginUser.getId())
-                        .userAgent(httpServletRequest.getHeader("User-Agent"))
-                        .clientIP(httpServletRequest.getRemoteAddr())
-                        .build()
+        // 로그 테이블 기록 : 큐에 넣고 백그라운드에서 모아서 저장
+        loginLogWriter.write(
+                loginUser.getId(),
+                httpServletRequest.getHeader("User-Agent"),
+                httpServletRequest.getRemoteAddr()
         );
 
         // 프론트 요청으로 유저 정보 리턴
         UserResponse.UserDto responseUserInfo = new UserResponse.UserDto(loginUser);
         responseUserInfo.setId(loginUser.getId());
-        responseUserInfo.setFullName(aes256Utils.decryptAES256(loginUser.getFullName()));
-        responseUserInfo.setEmail(aes256Utils.decryptAES256(loginUser.getEmail()));
+        UserIdentityCache.Identity identity = userIdentityCache.get(loginUser);
+        responseUserInfo.setFullName(identity.getFullName());
+        responseUserInfo.setEmail(identity.getEmail());
         responseUserInfo.setRole(loginUser.getRole());
         responseUserInfo.setProfileImage(loginUser.getProfileImage());
         responseUserInfo.setSizeOfTicket(loginUser.getSizeOfTicket());
@@ -129,11 +130,12 @@ public class UserService {
 
         User userPS = userRepository.findById(loginUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
+        UserIdentityCache.Identity identity = userIdentityCache.get(userPS);
 
         return GetUserInfoDTO.builder()
                 .id(loginUserId)
-                .email(aes256Utils.decryptAES256(userPS.getEmail()))
-                .fullName(aes256Utils.decryptAES256(userPS.getFullName()))
+                .email(identity.getEmail())
+                .fullName(identity.getFullName())
                 .profileImage(userPS.getProfileImage())
                 .sizeOfTicket(userPS.getSizeOfTicket())
                 .usedTicket(userPS.getUsedTicket())
@@ -153,9 +155,10 @@ public class UserService {
         User userPS = userRepository.findById(loginUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
 
+        UserIdentityCache.Identity identity = userIdentityCache.get(userPS);
         GetUserInfoDTO getUserInfoDTO = new GetUserInfoDTO(userPS);
-        getUserInfoDTO.setEmail(aes256Utils.decryptAES256(userPS.getEmail()));
-        getUserInfoDTO.setFullName(aes256Utils.decryptAES256(userPS.getFullName()));
+        getUserInfoDTO.setEmail(identity.getEmail());
+        getUserInfoDTO.setFullName(identity.getFullName());
 
         return UserResponse.GetRoleUserInfoDTO.builder()
                 .getUserInfoDTO(getUserInfoDTO)
@@ -177,13 +180,11 @@ public class UserService {
         // 방안 1. 쿼리 만들기
         // 방안 2. 기존에 있던 findby .. 이용
 
-        UserResponse.UserDto userDto = new UserResponse.UserDto(userPS);
-        userDto.setEmail(aes256Utils.decryptAES256(userPS.getEmail()));
-        userDto.setFullName(aes256Utils.decryptAES256(userPS.getFullName()));
+        UserResponse.UserDto userDto = userIdentityCache.toUserDto(userPS);
 
         return UserResponse.AdminInfoDTO.builder()
                 .userDto(userDto)
-                .CountProcessDTO(userRepository.countAllScheduleUserProgressByAdminId(loginUserId))
+                .CountProcessDTO(progressCountService.getAgencyCount(loginUserId))
                 .registeredEventCount(userRepository.countAdminScheduleRegisteredEvent(loginUserId))
                 .schedulerRoleAdminList(userRepository.findRoleAdminScheduleListById(loginUserId))
                 .build();
@@ -203,6 +204,10 @@ public class UserService {
         String encodedFullName = aes256Utils.encryptAES256(updateUserInfoDTO.getFullName());
 
         userPS.updateUserInfo(encodedPassword, encodedFullName);//이름, 비번  수정
+        userNameIndexService.index(loginUserId, updateUserInfoDTO.getFullName());
+        userIdentityCache.evict(loginUserId); // 복호화 캐시에 남은 이전 이름 제거
+        managerUserPageCache.invalidateAfterCommit();
+        scheduleDetailCache.evictByOwnerAfterCommit(loginUserId); // 행사 상세에 저장된 작성자 이름 제거
 
         User updatedUser = userRepository.save(userPS); // 업데이트된 User 객체를 DB에 반영합니다.
 
@@ -217,34 +222,6 @@ public class UserService {
                 .build();
     }
 
-    /**
-     * aws upload
-     */
-    public String changedImageName(String originName) { //이미지 이름 중복 방지를 위해 랜덤으로 생성
-        String random = UUID.randomUUID().toString();
-        return random + originName;
-    }
-
-    @Transactional
-    public String uploadImageToS3(MultipartFile image) throws IOException { // 이미지를 S3에 업로드하고 이미지의 url을 반환
-
-        String originName = image.getOriginalFilename(); // 원본 이미지 이름
-        originName.substring(originName.lastIndexOf(".")); // 확장자
-        String changedName = changedImageName(originName); // 새로 생성된 이미지 이름
-
-        ObjectMetadata metadata = new ObjectMetadata(); // 메타데이터
-        metadata.setContentType(image.getContentType()); // putObject의 인자로 들어갈 메타데이터를 생성.
-        // 이미지만 받을 예정이므로 contentType은  "image/확장자"
-
-        amazonS3.putObject(
-                new PutObjectRequest(bucketName, changedName, image.getInputStream(), metadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-                        // getInputStream에서 exception 발생 -> controller에서 처리
-
-        //데이터베이스에 저장할 이미지가 저장된 주소
-        return amazonS3.getUrl(bucketName, changedName).toString();
-    }
-
     /**
      * 유저의 프로필 사진 업데이트 로직실행
      * @param multipartFile
@@ -260,9 +237,11 @@ public class UserService {
         User userPS = userRepository.findById(loginUserId)
                 .orElseThrow(() -> new NoSuchElementException("사용자 정보를 찾을 수 없습니다"));
 
-        String imageURL = uploadImageToS3(multipartFile);
+        String imageURL = imageService.upload(multipartFile);
 
         userPS.updateUserProfileImage(imageURL);
+        managerUserPageCache.invalidateAfterCommit();
+        scheduleDetailCache.evictByOwnerAfterCommit(loginUserId);
 
         User updatedUser = userRepository.save(userPS); // 업데이트된 User 객체를 DB에 반영합니다.
 
@@ -292,11 +271,12 @@ public class UserService {
 
         String url = userPS.getProfileImage();
 
-        String fileName = url.substring(url.lastIndexOf('/') + 1);
-        if(!fileName.equals("default.jpg")) amazonS3.deleteObject(new DeleteObjectRequest(bucketName, fileName)); // aws에서 삭제
+        imageService.deleteAfterCommit(url); // 커밋되면 aws에서 원본과 리사이즈 이미지 삭제 (기본 이미지는 유지)
 
         //지울때 url은 기본 프로필로 초기화
         userPS.updateUserProfileImage(DEFAULT_IMAGE);// profileImage에 파일위치 저장
+        managerUserPageCache.invalidateAfterCommit();
+        scheduleDetailCache.evictByOwnerAfterCommit(loginUserId);
 
         User updatedUser = userRepository.save(userPS); // 업데이트된 User 객체를 DB에 반영합니다.
 
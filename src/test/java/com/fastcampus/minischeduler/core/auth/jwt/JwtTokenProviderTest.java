@@ -0,0 +1,110 @@
+package com.fastcampus.minischeduler.core.auth.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        jwtTokenProvider.setSECRET(SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheSize", 100);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 캐시된 검증 결과를 재사용함")
+    void cacheVerifiedToken() {
+        // given
+        String jwt = jwtTokenProvider.create(user()).replace(JwtTokenProvider.TOKEN_PREFIX, "");
+
+        // when
+        DecodedJWT first = jwtTokenProvider.verify(jwt);
+        DecodedJWT second = jwtTokenProvider.verify(jwt);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1L, second.getClaim("id").asLong());
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp 가 지나면 TokenExpiredException")
+    void rejectCachedTokenAfterExp() throws InterruptedException {
+        // given - exp 는 초 단위이므로 1~2초 뒤에 만료되는 토큰을 검증해 캐시에 둠
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String jwt = JWT.create()
+                .withExpiresAt(new Date(expiresAt))
+                .withClaim("id", 1L)
+                .sign(algorithm());
+        jwtTokenProvider.verify(jwt);
+
+        // when
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 100);
+
+        // then
+        assertThrows(TokenExpiredException.class, () -> jwtTokenProvider.verify(jwt));
+        assertThrows(TokenExpiredException.class, () -> jwtTokenProvider.verify(jwt)); // 다시 캐시되지 않음
+    }
+
+    @Test
+    @DisplayName("서명이나 내용을 바꾼 토큰은 원래 토큰이 캐시되어 있어도 검증에 실패함")
+    void rejectTamperedToken() {
+        // given - 원래 토큰은 검증되어 캐시에 있음
+        String jwt = jwtTokenProvider.create(user()).replace(JwtTokenProvider.TOKEN_PREFIX, "");
+        jwtTokenProvider.verify(jwt);
+        String[] parts = jwt.split("\\.");
+
+        // 서명의 마지막 글자는 쓰이지 않는 비트가 있어 바꿔도 같은 서명일 수 있으므로 첫 글자를 바꿈
+        String tamperedSignature = parts[0] + "." + parts[1] + "." + flip(parts[2].charAt(0)) + parts[2].substring(1);
+        String tamperedPayload = parts[0] + "." + encode("{\"id\":2,\"role\":\"ADMIN\"}") + "." + parts[2];
+
+        // when, then
+        for (String tampered : new String[]{tamperedSignature, tamperedPayload}) {
+            assertThrows(SignatureVerificationException.class, () -> jwtTokenProvider.verify(tampered));
+            assertThrows(SignatureVerificationException.class, () -> jwtTokenProvider.verify(tampered));
+        }
+        assertEquals(1L, jwtTokenProvider.verify(jwt).getClaim("id").asLong());
+    }
+
+    private static Algorithm algorithm() {
+        return Algorithm.HMAC512(Base64.getEncoder().encodeToString(SECRET.getBytes()));
+    }
+
+    private static char flip(char c) {
+        return c == 'A' ? 'B' : 'A';
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static User user() {
+        return User.builder()
+                .id(1L)
+                .email("encrypted-email")
+                .password("password")
+                .fullName("encrypted-name")
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fastcampus.minischeduler.core.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlindIndexUtilsTest {
+
+    private static final String ALPHABET = "가나다라마바사아자차카타파하김이박최정 abcABC-.";
+
+    private BlindIndexUtils blindIndexUtils;
+
+    @BeforeEach
+    void setUp() {
+        blindIndexUtils = new BlindIndexUtils();
+        ReflectionTestUtils.setField(blindIndexUtils, "key", "blind-index-test-key");
+        blindIndexUtils.init();
+    }
+
+    @Test
+    @DisplayName("이름의 모든 부분 문자열에 대해 검색 토큰은 저장 토큰의 부분집합")
+    void queryTokensAreSubsetOfIndexTokens() {
+        // given - 고정된 이름과 무작위 이름
+        List<String> names = new ArrayList<>(List.of("홍길동", "김 철수", "Kim Minsu", "아이유", "A", "BTS 방탄소년단"));
+        Random random = new Random(20231018L);
+        for (int i = 0; i < 200; i++) names.add(randomName(random));
+
+        for (String name : names) {
+            Set<String> indexTokens = blindIndexUtils.indexTokensOf(name);
+
+            // when - 모든 부분 문자열로 검색
+            for (int from = 0; from < name.length(); from++) {
+                for (int to = from + 1; to <= name.length(); to++) {
+                    String keyword = name.substring(from, to);
+                    if (keyword.isBlank()) continue;
+
+                    // then
+                    Set<String> queryTokens = blindIndexUtils.queryTokensOf(keyword);
+                    assertFalse(queryTokens.isEmpty(), keyword);
+                    assertTrue(indexTokens.containsAll(queryTokens), name + " / " + keyword);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("대소문자와 앞뒤 공백은 구분하지 않음")
+    void normalize() {
+        assertEquals(blindIndexUtils.queryTokensOf("minsu"), blindIndexUtils.queryTokensOf("  MinSu "));
+        assertTrue(blindIndexUtils.indexTokensOf("Kim Minsu").containsAll(blindIndexUtils.queryTokensOf("MINSU")));
+    }
+
+    @Test
+    @DisplayName("포함하지 않는 검색어의 토큰은 저장 토큰에 모두 있지 않음")
+    void notContained() {
+        assertFalse(blindIndexUtils.indexTokensOf("홍길동").containsAll(blindIndexUtils.queryTokensOf("길순")));
+    }
+
+    private static String randomName(Random random) {
+        int length = 1 + random.nextInt(10);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) name.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        return name.toString();
+    }
+}
@@ -0,0 +1,155 @@
+package com.fastcampus.minischeduler.image;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ImageProcessorTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final Map<String, byte[]> objects = new HashMap<>(); // S3 대신 사용하는 저장소
+
+    private AmazonS3 amazonS3;
+    private ImageProcessor imageProcessor;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            objects.put(request.getKey(), request.getInputStream().readAllBytes());
+            return null;
+        });
+
+        imageProcessor = new ImageProcessor(amazonS3);
+        ReflectionTestUtils.setField(imageProcessor, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(imageProcessor, "maxPixels", 4_000_000L);
+        ReflectionTestUtils.setField(imageProcessor, "resizeAttempts", 3);
+        ReflectionTestUtils.setField(imageProcessor, "resizeRetryDelayMs", 0L);
+    }
+
+    @Test
+    @DisplayName("긴 변이 버전의 최대 크기를 넘지 않도록 비율을 유지해 줄임")
+    void resizeKeepsAspectRatio() throws IOException {
+        // given - 2000 x 1000 png
+        byte[] original = png(2000, 1000);
+
+        // when
+        imageProcessor.resizeAll("original/uuid.png", original, "image/png");
+
+        // then
+        assertSize(64, 32, objects.get("thumbnail/uuid.png"));
+        assertSize(320, 160, objects.get("list/uuid.png"));
+        assertSize(1080, 540, objects.get("detail/uuid.png"));
+    }
+
+    @Test
+    @DisplayName("버전보다 작은 이미지는 늘리지 않음")
+    void resizeDoesNotUpscale() throws IOException {
+        // given
+        byte[] original = png(100, 300);
+
+        // when
+        imageProcessor.resizeAll("original/uuid.PNG", original, "image/png");
+
+        // then
+        assertSize(21, 64, objects.get("thumbnail/uuid.PNG"));
+        assertSize(100, 300, objects.get("list/uuid.PNG"));
+        assertSize(100, 300, objects.get("detail/uuid.PNG"));
+    }
+
+    @Test
+    @DisplayName("리사이즈할 수 없는 형식과 해상도가 너무 큰 이미지는 원본을 복사함")
+    void copyOriginalWhenNotResizable() throws IOException {
+        // when
+        imageProcessor.resizeAll("original/uuid.heic", new byte[]{1, 2, 3}, "image/heic");
+        imageProcessor.resizeAll("original/big.png", png(4000, 1001), "image/png");
+
+        // then
+        verify(amazonS3, times(2 * ImageVariant.values().length)).copyObject(any(CopyObjectRequest.class));
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 버전만 다시 리사이즈함")
+    void retryFailedVariantOnly() throws IOException {
+        // given - thumbnail 첫 업로드만 실패
+        Map<String, Integer> puts = new HashMap<>();
+        doAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            if (puts.merge(request.getKey(), 1, Integer::sum) == 1 && request.getKey().startsWith("thumbnail/"))
+                throw new AmazonServiceException("503 Slow Down");
+            objects.put(request.getKey(), request.getInputStream().readAllBytes());
+            return null;
+        }).when(amazonS3).putObject(any(PutObjectRequest.class));
+
+        // when
+        imageProcessor.resizeAll("original/uuid.png", png(2000, 1000), "image/png");
+
+        // then
+        assertEquals(Map.of("thumbnail/uuid.png", 2, "list/uuid.png", 1, "detail/uuid.png", 1), puts);
+        assertSize(64, 32, objects.get("thumbnail/uuid.png"));
+        verify(amazonS3, never()).copyObject(any(CopyObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("리사이즈 버전을 끝내 저장하지 못하면 마지막 시도에서 원본을 복사해 url 이 깨지지 않게 함")
+    void copyOriginalOnLastAttempt() throws IOException {
+        // given - detail 업로드는 항상 실패
+        doAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            if (request.getKey().startsWith("detail/")) throw new AmazonServiceException("500 Internal Error");
+            objects.put(request.getKey(), request.getInputStream().readAllBytes());
+            return null;
+        }).when(amazonS3).putObject(any(PutObjectRequest.class));
+
+        // when
+        imageProcessor.resizeAll("original/uuid.png", png(2000, 1000), "image/png");
+
+        // then - 리사이즈 2번 실패 후 원본 복사
+        verify(amazonS3, times(2)).putObject(argThat((PutObjectRequest request) -> request.getKey().equals("detail/uuid.png")));
+        verify(amazonS3).copyObject(argThat(request ->
+                request.getSourceKey().equals("original/uuid.png") && request.getDestinationKey().equals("detail/uuid.png")));
+        assertSize(64, 32, objects.get("thumbnail/uuid.png"));
+    }
+
+    @Test
+    @DisplayName("디코딩하지 않고 헤더의 가로/세로로 픽셀 수를 확인")
+    void isAllowedSize() throws IOException {
+        assertTrue(imageProcessor.isAllowedSize(png(2000, 2000)));
+        assertFalse(imageProcessor.isAllowedSize(png(2001, 2000)));
+        assertTrue(imageProcessor.isAllowedSize(new byte[]{1, 2, 3})); // 읽을 수 없는 형식은 디코딩하지 않음
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static void assertSize(int width, int height, byte[] bytes) throws IOException {
+        assertNotNull(bytes);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
@@ -0,0 +1,67 @@
+package com.fastcampus.minischeduler.image;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ImageServiceTest {
+
+    private static final String IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/original/uuid-photo.jpg";
+
+    private AmazonS3 amazonS3;
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        imageService = new ImageService(amazonS3, mock(ImageProcessor.class));
+        ReflectionTestUtils.setField(imageService, "bucketName", "bucket");
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("커밋 전에는 지우지 않고, 커밋되면 원본과 리사이즈 버전을 모두 지움")
+    void deleteAfterCommit() {
+        // when
+        imageService.deleteAfterCommit(IMAGE_URL);
+
+        // then
+        verify(amazonS3, never()).deleteObject(any(DeleteObjectRequest.class));
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        verify(amazonS3).deleteObject(argThat((DeleteObjectRequest request) -> request.getKey().equals("original/uuid-photo.jpg")));
+        for (ImageVariant variant : ImageVariant.values())
+            verify(amazonS3).deleteObject(argThat((DeleteObjectRequest request) ->
+                    request.getKey().equals(variant.keyOf("original/uuid-photo.jpg"))));
+    }
+
+    @Test
+    @DisplayName("롤백되면 DB 가 가리키는 이미지를 지우지 않음")
+    void keepImageOnRollback() {
+        // when
+        imageService.deleteAfterCommit(IMAGE_URL);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(amazonS3, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+}
@@ -0,0 +1,64 @@
+package com.fastcampus.minischeduler.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageVariantTest {
+
+    private static final String BUCKET_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @Test
+    @DisplayName("원본 key 의 original/ 을 버전 이름으로 바꾼 key 를 만듦")
+    void keyOf() {
+        assertEquals("thumbnail/uuid-photo.jpg", ImageVariant.THUMBNAIL.keyOf("original/uuid-photo.jpg"));
+        assertEquals("list/uuid-photo.jpg", ImageVariant.LIST.keyOf("original/uuid-photo.jpg"));
+        assertEquals("detail/uuid-photo.jpg", ImageVariant.DETAIL.keyOf("original/uuid-photo.jpg"));
+    }
+
+    @Test
+    @DisplayName("원본 url 과 key 로 만든 url 이 같은 규칙을 따름")
+    void urlOfMatchesKeyOf() {
+        String originalKey = "original/uuid-photo.png";
+
+        for (ImageVariant variant : ImageVariant.values())
+            assertEquals(BUCKET_URL + variant.keyOf(originalKey), variant.urlOf(BUCKET_URL + originalKey));
+    }
+
+    @Test
+    @DisplayName("파일명에 original/ 이 들어 있어도 key 맨 앞의 original/ 만 바꿈")
+    void urlOfReplacesKeyPrefixOnly() {
+        String originalKey = "original/x/original/uuid.jpg";
+
+        assertEquals(BUCKET_URL + "list/x/original/uuid.jpg", ImageVariant.LIST.urlOf(BUCKET_URL + originalKey));
+        assertEquals(BUCKET_URL + ImageVariant.LIST.keyOf(originalKey), ImageVariant.LIST.urlOf(BUCKET_URL + originalKey));
+    }
+
+    @Test
+    @DisplayName("리사이즈 버전이 없는 이미지(기본 이미지, 이전 방식)와 null 은 그대로 반환")
+    void urlOfWithoutVariants() {
+        assertEquals(BUCKET_URL + "default.jpg", ImageVariant.THUMBNAIL.urlOf(BUCKET_URL + "default.jpg"));
+        assertEquals(BUCKET_URL + "uuid-old.jpg", ImageVariant.DETAIL.urlOf(BUCKET_URL + "uuid-old.jpg"));
+        assertNull(ImageVariant.LIST.urlOf(null));
+    }
+
+    @Test
+    @DisplayName("모든 버전의 url 을 이름 순서대로 반환")
+    void urlsOf() {
+        Map<String, String> urls = ImageVariant.urlsOf(BUCKET_URL + "original/uuid.jpg");
+
+        assertEquals(
+                Map.of(
+                        "thumbnail", BUCKET_URL + "thumbnail/uuid.jpg",
+                        "list", BUCKET_URL + "list/uuid.jpg",
+                        "detail", BUCKET_URL + "detail/uuid.jpg"
+                ),
+                urls
+        );
+        assertArrayEquals(new String[]{"thumbnail", "list", "detail"}, urls.keySet().toArray());
+        assertTrue(ImageVariant.urlsOf(null).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.fastcampus.minischeduler.log;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoginLogWriterTest {
+
+    private static final int QUEUE_CAPACITY = 5;
+    private static final int BATCH_SIZE = 2;
+
+    private final List<Integer> batchSizes = new ArrayList<>(); // batchUpdate 호출마다 넘긴 기록 수
+
+    private JdbcTemplate jdbcTemplate;
+    private LoginLogWriter loginLogWriter;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        loginLogWriter = new LoginLogWriter(jdbcTemplate);
+        ReflectionTestUtils.setField(loginLogWriter, "queueCapacity", QUEUE_CAPACITY);
+        ReflectionTestUtils.setField(loginLogWriter, "batchSize", BATCH_SIZE);
+        loginLogWriter.init();
+
+        registry = new SimpleMeterRegistry();
+        loginLogWriter.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 새 기록을 버리고, flush 는 batch-size 단위로 나누어 저장함")
+    void dropWhenFullAndFlushInBatches() {
+        // given
+        recordBatchUpdates(0);
+
+        // when - 용량 5 인 큐에 7건
+        for (long userId = 1; userId <= 7; userId++) loginLogWriter.write(userId, "agent", "127.0.0.1");
+
+        // then
+        assertEquals(2, counter("login.log.dropped"));
+        assertEquals(5, gauge("login.log.queue.size"));
+
+        // when
+        loginLogWriter.flush();
+
+        // then - 2건, 2건, 1건
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(5, counter("login.log.written"));
+        assertEquals(0, counter("login.log.failed"));
+        assertEquals(0, gauge("login.log.queue.size"));
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 묶음은 failed 로 세고 다음 묶음은 계속 저장함")
+    void countFailedBatch() {
+        // given - 두 번째 batchUpdate 만 실패
+        recordBatchUpdates(2);
+        for (long userId = 1; userId <= 5; userId++) loginLogWriter.write(userId, "agent", "127.0.0.1");
+
+        // when
+        loginLogWriter.flush();
+
+        // then
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(3, counter("login.log.written"));
+        assertEquals(2, counter("login.log.failed"));
+        assertEquals(0, gauge("login.log.queue.size"));
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 기록을 저장함")
+    void flushOnClose() {
+        // given
+        recordBatchUpdates(0);
+        for (long userId = 1; userId <= 3; userId++) loginLogWriter.write(userId, "agent", "127.0.0.1");
+
+        // when
+        loginLogWriter.close();
+
+        // then
+        assertEquals(List.of(2, 1), batchSizes);
+        assertEquals(3, counter("login.log.written"));
+        assertEquals(0, gauge("login.log.queue.size"));
+    }
+
+    /**
+     * batchUpdate 에 넘긴 기록 수를 남깁니다. (flush 가 호출 후 목록을 비우므로 호출 시점에 셈)
+     * @param failingCall : 이 번째(1부터) 호출은 DB 오류로 실패, 0 이면 모두 성공
+     */
+    @SuppressWarnings("unchecked")
+    private void recordBatchUpdates(int failingCall) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<LoginLog> batch = invocation.getArgument(1);
+                    assertEquals(batch.size(), invocation.<Integer>getArgument(2));
+                    batchSizes.add(batch.size());
+                    if (batchSizes.size() == failingCall) throw new DataAccessResourceFailureException("connection lost");
+                    return new int[][]{new int[batch.size()]};
+                });
+    }
+
+    private double counter(String name) {
+        return registry.get(name).functionCounter().count();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,133 @@
+package com.fastcampus.minischeduler.manager;
+
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.scheduleradmin.ScheduleDetailCache;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
+import com.fastcampus.minischeduler.user.UserRepository;
+import com.fastcampus.minischeduler.user.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+class ManagerServiceTest {
+
+    private static final int USER_COUNT = 23;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ManagerService managerService;
+    private List<Long> userIds;
+    private List<Long> adminIds;
+
+    @BeforeEach
+    void setUp() throws GeneralSecurityException {
+        AES256Utils aes256Utils = mock(AES256Utils.class);
+        when(aes256Utils.decryptAES256(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        UserIdentityCache userIdentityCache = new UserIdentityCache(aes256Utils);
+        ReflectionTestUtils.setField(userIdentityCache, "maxSize", 100);
+        userIdentityCache.init();
+
+        ManagerUserPageCache managerUserPageCache = new ManagerUserPageCache();
+        ReflectionTestUtils.setField(managerUserPageCache, "pageCacheSize", 100);
+        ReflectionTestUtils.setField(managerUserPageCache, "ttlMs", 60000L);
+        managerUserPageCache.init();
+
+        managerService = new ManagerService(
+                managerRepository,
+                userIdentityCache,
+                managerUserPageCache,
+                mock(ScheduleDetailCache.class)
+        );
+
+        userIds = new ArrayList<>();
+        adminIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            Role role = i % 3 == 0 ? Role.ADMIN : Role.USER;
+            Long id = userRepository.save(User.builder()
+                    .email("user" + i + "@test.com")
+                    .password("password")
+                    .role(role)
+                    .fullName("user" + i)
+                    .sizeOfTicket(12)
+                    .build()).getId();
+            userIds.add(id);
+            if (role == Role.ADMIN) adminIds.add(id);
+        }
+    }
+
+    @Test
+    @DisplayName("next 커서로 이어 읽으면 모든 회원을 id 순으로 빠짐없이 한 번씩 읽음")
+    void pageThroughAllUsers() {
+        // when
+        List<Long> read = readAll("ALL");
+
+        // then
+        assertEquals(userIds, read);
+    }
+
+    @Test
+    @DisplayName("권한별 목록도 같은 커서 규칙으로 해당 권한의 회원만 읽음")
+    void pageThroughUsersByRole() {
+        // when
+        List<Long> read = readAll("ADMIN");
+
+        // then
+        assertEquals(adminIds, read);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 next 가 null 이고, 회원 수가 페이지 크기의 배수여도 빈 페이지를 만들지 않음")
+    void lastPage() {
+        // given - ADMIN 8명을 4명씩
+        assertEquals(8, adminIds.size());
+
+        // when
+        ManagerResponse.UserPageDTO first = managerService.getUserListByRole("ADMIN", null, PAGE_SIZE);
+        ManagerResponse.UserPageDTO second = managerService.getUserListByRole("ADMIN", first.getNext(), PAGE_SIZE);
+
+        // then
+        assertEquals(adminIds.get(PAGE_SIZE - 1), first.getNext());
+        assertEquals(PAGE_SIZE, second.getContent().size());
+        assertNull(second.getNext());
+    }
+
+    private List<Long> readAll(String role) {
+
+        List<Long> read = new ArrayList<>();
+        Long cursor = null;
+        do {
+            ManagerResponse.UserPageDTO page = managerService.getUserListByRole(role, cursor, PAGE_SIZE);
+            assertTrue(page.getContent().size() <= PAGE_SIZE);
+            read.addAll(page.getContent().stream().map(UserResponse.UserDto::getId).collect(Collectors.toList()));
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        return read;
+    }
+}
@@ -0,0 +1,285 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminResponse.ImplCountProcessDTO;
+import com.fastcampus.minischeduler.scheduleruser.Progress;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRepository;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUserService;
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import com.fastcampus.minischeduler.user.UserIdentityCache;
+import com.fastcampus.minischeduler.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 재집계가 새 트랜잭션으로 커밋하므로 테스트 트랜잭션을 쓰지 않음
+class ProgressCountServiceTest {
+
+    private static final int INITIAL_TICKETS = 12;
+    private static final LocalDateTime AUGUST = LocalDateTime.of(2023, 8, 10, 18, 0);
+
+    @Autowired
+    private AgencyProgressCountRepository agencyProgressCountRepository;
+
+    @Autowired
+    private EventProgressCountRepository eventProgressCountRepository;
+
+    @Autowired
+    private SchedulerAdminRepository schedulerAdminRepository;
+
+    @Autowired
+    private SchedulerUserRepository schedulerUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ProgressCountService progressCountService;
+    private SchedulerUserService schedulerUserService;
+    private User agency;
+    private SchedulerAdmin event;
+    private SchedulerAdmin otherEvent;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        progressCountService = new ProgressCountService(
+                agencyProgressCountRepository,
+                eventProgressCountRepository,
+                schedulerAdminRepository,
+                transactionManager
+        );
+        progressCountService.init();
+        schedulerUserService = new SchedulerUserService(
+                schedulerUserRepository,
+                schedulerAdminRepository,
+                userRepository,
+                mock(UserIdentityCache.class),
+                progressCountService
+        );
+
+        agency = userRepository.save(user("agency@test.com", Role.ADMIN));
+        event = schedulerAdminRepository.save(event(agency));
+        otherEvent = schedulerAdminRepository.save(event(agency));
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerUserRepository.deleteAll();
+        eventProgressCountRepository.deleteAll();
+        agencyProgressCountRepository.deleteAll();
+        schedulerAdminRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("신청/승인/거절의 증감분을 행사와 기획사 카운터에 함께 반영")
+    void record() {
+        // given - 빈 카운터
+        progressCountService.getAgencyCount(agency.getId());
+
+        // when - event : 신청 3건 중 1건 승인, 1건 거절 / otherEvent : 신청 1건
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) progressCountService.record(event.getId(), agency.getId(), null, Progress.WAITING);
+            progressCountService.record(event.getId(), agency.getId(), Progress.WAITING, Progress.ACCEPT);
+            progressCountService.record(event.getId(), agency.getId(), Progress.WAITING, Progress.REFUSE);
+            progressCountService.record(otherEvent.getId(), agency.getId(), null, Progress.WAITING);
+        });
+
+        // then
+        assertCounts(1, 1, 1, eventCount(event));
+        assertCounts(1, 0, 0, eventCount(otherEvent));
+        assertCounts(2, 1, 1, progressCountService.getAgencyCount(agency.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 결재는 행사별 건수만큼, 기획사 카운터는 합계로 한 번 반영")
+    void recordAll() {
+        // given - event 신청 3건, otherEvent 신청 2건
+        progressCountService.getAgencyCount(agency.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) progressCountService.record(event.getId(), agency.getId(), null, Progress.WAITING);
+            for (int i = 0; i < 2; i++) progressCountService.record(otherEvent.getId(), agency.getId(), null, Progress.WAITING);
+        });
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> progressCountService.recordAll(
+                agency.getId(),
+                Map.of(event.getId(), 2, otherEvent.getId(), 1),
+                Progress.WAITING,
+                Progress.ACCEPT
+        ));
+
+        // then
+        assertCounts(1, 2, 0, eventCount(event));
+        assertCounts(1, 1, 0, eventCount(otherEvent));
+        assertCounts(2, 3, 0, progressCountService.getAgencyCount(agency.getId()));
+    }
+
+    @Test
+    @DisplayName("카운터가 없거나 어긋나 있으면 재집계가 상태별 티켓 수로 덮어씀")
+    void reconcile() {
+        // given - 대기 2건, 승인 1건, 거절 1건 / 카운터 없음
+        schedulerUserRepository.save(ticket(fan("fan1@test.com"), event, Progress.WAITING));
+        schedulerUserRepository.save(ticket(fan("fan2@test.com"), event, Progress.ACCEPT));
+        schedulerUserRepository.save(ticket(fan("fan3@test.com"), otherEvent, Progress.REFUSE));
+        schedulerUserRepository.save(ticket(fan("fan4@test.com"), otherEvent, Progress.WAITING));
+
+        // when - 조회 시 집계로 만듦
+        ImplCountProcessDTO created = progressCountService.getAgencyCount(agency.getId());
+
+        // then
+        assertCounts(2, 1, 1, created);
+        assertCounts(1, 1, 0, eventCount(event));
+        assertCounts(1, 0, 1, eventCount(otherEvent));
+
+        // when - 어긋난 카운터를 새벽 재집계로 바로잡음
+        transactionTemplate.executeWithoutResult(status -> {
+            progressCountService.record(event.getId(), agency.getId(), null, Progress.REFUSE);
+            agencyProgressCountRepository.add(agency.getId(), 5, 0, 0);
+        });
+        progressCountService.reconcileAll();
+
+        // then
+        assertCounts(2, 1, 1, progressCountService.getAgencyCount(agency.getId()));
+        assertCounts(1, 1, 0, eventCount(event));
+    }
+
+    @Test
+    @DisplayName("재집계는 진행 중인 증감분이 커밋될 때까지 기다려 집계에 포함함")
+    void reconcileWaitsForInFlightRecord() throws Exception {
+        // given - 어긋난 카운터가 있는 상태에서 신청 트랜잭션이 카운터를 갱신하고 커밋 전에 멈춤
+        progressCountService.getAgencyCount(agency.getId());
+        transactionTemplate.executeWithoutResult(status -> {
+            progressCountService.record(event.getId(), agency.getId(), null, Progress.REFUSE);
+            agencyProgressCountRepository.add(agency.getId(), 5, 0, 0);
+        });
+        User fan = fan("fan@test.com");
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        Future<?> booking = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            schedulerUserRepository.save(ticket(fan, event, Progress.WAITING));
+            progressCountService.record(event.getId(), agency.getId(), null, Progress.WAITING);
+            recorded.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        recorded.await(10, TimeUnit.SECONDS);
+
+        // when - 재집계가 카운터 잠금을 기다리는 동안 신청이 커밋됨
+        Future<?> reconcile = executorService.submit(progressCountService::reconcileAll);
+        Thread.sleep(300);
+        commit.countDown();
+        booking.get(10, TimeUnit.SECONDS);
+        reconcile.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then - 재집계가 덮어쓴 값에 신청 1건이 포함되고, 증감분과 이중으로 더해지지 않음
+        assertCounts(1, 0, 0, progressCountService.getAgencyCount(agency.getId()));
+        assertCounts(1, 0, 0, eventCount(event));
+    }
+
+    @Test
+    @DisplayName("취소 시 잠근 티켓의 현재 상태를 카운터에서 빼고, 거절된 티켓은 티켓을 다시 돌려주지 않음")
+    void cancel() {
+        // given - 승인된 티켓과 거절된 티켓
+        User accepted = fan("accepted@test.com");
+        User refused = fan("refused@test.com");
+        Long acceptedTicketId = schedulerUserRepository.save(ticket(accepted, event, Progress.ACCEPT)).getId();
+        Long refusedTicketId = schedulerUserRepository.save(ticket(refused, event, Progress.REFUSE)).getId();
+        assertCounts(0, 1, 1, progressCountService.getAgencyCount(agency.getId()));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> schedulerUserService.cancel(acceptedTicketId, accepted.getId()));
+        transactionTemplate.executeWithoutResult(status -> schedulerUserService.cancel(refusedTicketId, refused.getId()));
+
+        // then
+        assertCounts(0, 0, 0, progressCountService.getAgencyCount(agency.getId()));
+        assertCounts(0, 0, 0, eventCount(event));
+        assertEquals(0, schedulerUserRepository.count());
+        assertEquals(INITIAL_TICKETS + 1, ticketsOf(accepted));
+        assertEquals(INITIAL_TICKETS, ticketsOf(refused));
+    }
+
+    private EventProgressCount eventCount(SchedulerAdmin event) {
+        return eventProgressCountRepository.findById(event.getId()).orElseThrow();
+    }
+
+    private int ticketsOf(User user) {
+        return userRepository.findById(user.getId()).orElseThrow().getSizeOfTicket();
+    }
+
+    private User fan(String email) {
+        return userRepository.save(user(email, Role.USER));
+    }
+
+    private static void assertCounts(int waiting, int accepted, int refused, EventProgressCount count) {
+        assertEquals(waiting, count.getWaiting());
+        assertEquals(accepted, count.getAccepted());
+        assertEquals(refused, count.getRefused());
+    }
+
+    private static void assertCounts(int waiting, int accepted, int refused, ImplCountProcessDTO count) {
+        assertEquals(waiting, count.getWaiting());
+        assertEquals(accepted, count.getAccepted());
+        assertEquals(refused, count.getRefused());
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .fullName(email)
+                .sizeOfTicket(INITIAL_TICKETS)
+                .build();
+    }
+
+    private static SchedulerAdmin event(User agency) {
+        return SchedulerAdmin.builder()
+                .user(agency)
+                .scheduleStart(LocalDateTime.of(2023, 8, 1, 0, 0))
+                .scheduleEnd(LocalDateTime.of(2023, 9, 30, 0, 0))
+                .title("event")
+                .description("description")
+                .build();
+    }
+
+    private static SchedulerUser ticket(User fan, SchedulerAdmin event, Progress progress) {
+        return SchedulerUser.builder()
+                .user(fan)
+                .schedulerAdmin(event)
+                .scheduleStart(AUGUST)
+                .progress(progress)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.core.exception.ErrorCode;
+import com.fastcampus.minischeduler.core.exception.Exception400;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 해석하면 같은 (시작일, id) 가 나옴")
+    void roundTrip() {
+        // given
+        SchedulerAdmin schedulerAdmin = SchedulerAdmin.builder()
+                .id(42L)
+                .scheduleStart(LocalDateTime.of(2023, 8, 10, 18, 30))
+                .build();
+
+        // when
+        ScheduleCursor cursor = ScheduleCursor.decode(ScheduleCursor.of(schedulerAdmin).encode());
+
+        // then
+        assertEquals(LocalDateTime.of(2023, 8, 10, 18, 30), cursor.getScheduleStart());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지")
+    void first() {
+        assertSame(ScheduleCursor.FIRST, ScheduleCursor.decode(null));
+        assertSame(ScheduleCursor.FIRST, ScheduleCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("변조되었거나 형식이 틀린 커서는 INVALID_CURSOR")
+    void invalid() {
+        // given
+        String valid = ScheduleCursor.of(SchedulerAdmin.builder()
+                .id(42L)
+                .scheduleStart(LocalDateTime.of(2023, 8, 10, 18, 30))
+                .build()).encode();
+        List<String> cursors = List.of(
+                "not a cursor!",                               // Base64 가 아님
+                "x" + valid,                                   // 앞에 문자를 끼워 넣어 디코딩 결과가 틀어짐
+                valid.substring(0, 5),                         // 잘림
+                encode("2023-08-10T18:30"),                    // 구분자 없음
+                encode("2023-08-10T18:30|abc"),                // id 가 숫자가 아님
+                encode("2023-13-10T18:30|42"),                 // 없는 날짜
+                encode("|42")
+        );
+
+        // when, then
+        for (String cursor : cursors) {
+            Exception400 exception = assertThrows(Exception400.class, () -> ScheduleCursor.decode(cursor), cursor);
+            assertEquals("cursor", exception.getKey());
+            assertEquals(ErrorCode.INVALID_CURSOR.getMessage(), exception.getValue());
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
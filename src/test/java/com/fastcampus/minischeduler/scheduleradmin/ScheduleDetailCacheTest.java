@@ -0,0 +1,216 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.user.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ScheduleDetailCacheTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>(); // Redis 대신 사용하는 저장소
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Function<Long, ScheduleDetailCache.Detail> loader = id -> {
+        loadCount.incrementAndGet();
+        return detail(id, "title");
+    };
+
+    private StringRedisTemplate redisTemplate;
+    private SchedulerAdminRepository schedulerAdminRepository;
+    private ScheduleDetailCache scheduleDetailCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation ->
+                redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+
+        // 파이프라인의 SET 도 같은 저장소에 반영
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(stringCommands.set(any(byte[].class), any(byte[].class), any(Expiration.class), any(RedisStringCommands.SetOption.class)))
+                .thenAnswer(invocation -> {
+                    redis.put(
+                            new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8),
+                            new String(invocation.<byte[]>getArgument(1), StandardCharsets.UTF_8)
+                    );
+                    return true;
+                });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+        schedulerAdminRepository = mock(SchedulerAdminRepository.class);
+
+        scheduleDetailCache = new ScheduleDetailCache(
+                redisTemplate,
+                Jackson2ObjectMapperBuilder.json().build(),
+                schedulerAdminRepository
+        );
+        ReflectionTestUtils.setField(scheduleDetailCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(scheduleDetailCache, "nearCacheSize", 100);
+        ReflectionTestUtils.setField(scheduleDetailCache, "nearCacheTtlMs", 60000L);
+        ReflectionTestUtils.setField(scheduleDetailCache, "retryIntervalMs", 60000L);
+        ReflectionTestUtils.setField(scheduleDetailCache, "evictGuardMs", 5000L);
+        scheduleDetailCache.init();
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB 에서 읽고 Redis 에 저장함")
+    void readThrough() {
+        // when
+        ScheduleDetailCache.Detail first = scheduleDetailCache.get(SCHEDULE_ID, loader);
+        ScheduleDetailCache.Detail second = scheduleDetailCache.get(SCHEDULE_ID, loader);
+
+        // then
+        assertEquals(1, loadCount.get());
+        assertEquals(first, second);
+        assertTrue(redis.containsKey("schedule:detail:" + SCHEDULE_ID));
+    }
+
+    @Test
+    @DisplayName("near-cache 에 없으면 Redis 에 저장된 값을 역직렬화해 사용함")
+    void readFromRedis() {
+        // given - 다른 인스턴스가 Redis 에 저장한 값
+        scheduleDetailCache.get(SCHEDULE_ID, loader);
+        ReflectionTestUtils.setField(scheduleDetailCache, "nearCacheTtlMs", 0L);
+        scheduleDetailCache.init();
+
+        // when
+        ScheduleDetailCache.Detail detail = scheduleDetailCache.get(SCHEDULE_ID, loader);
+
+        // then
+        assertEquals(1, loadCount.get());
+        assertEquals(detail(SCHEDULE_ID, "title"), detail);
+    }
+
+    @Test
+    @DisplayName("삭제하면 near-cache 와 Redis 에서 모두 지워져 다음 조회 때 다시 읽음")
+    void evict() {
+        // given
+        scheduleDetailCache.get(SCHEDULE_ID, loader);
+
+        // when
+        scheduleDetailCache.evict(SCHEDULE_ID);
+        scheduleDetailCache.get(SCHEDULE_ID, loader);
+
+        // then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("수정 전 값을 읽은 요청이 커밋 후 삭제보다 늦게 저장하려 하면 저장하지 않음")
+    void staleLoadAfterEvict() {
+        // given - DB 에서 수정 전 값을 읽는 사이 수정이 커밋되어 캐시를 지움
+        Function<Long, ScheduleDetailCache.Detail> staleLoader = id -> {
+            loadCount.incrementAndGet();
+            ScheduleDetailCache.Detail stale = detail(id, "before");
+            scheduleDetailCache.evict(id);
+            return stale;
+        };
+
+        // when
+        ScheduleDetailCache.Detail read = scheduleDetailCache.get(SCHEDULE_ID, staleLoader);
+        ScheduleDetailCache.Detail next = scheduleDetailCache.get(SCHEDULE_ID, id -> {
+            loadCount.incrementAndGet();
+            return detail(id, "after");
+        });
+
+        // then - 수정 전 값은 Redis 와 near-cache 어디에도 남지 않음
+        assertEquals("before", read.getTitle());
+        assertEquals("after", next.getTitle());
+        assertEquals(2, loadCount.get());
+        assertEquals("-", redis.get("schedule:detail:" + SCHEDULE_ID));
+
+        // when - 삭제 표시가 만료된 뒤에는 다시 캐시함
+        redis.remove("schedule:detail:" + SCHEDULE_ID);
+        scheduleDetailCache.get(SCHEDULE_ID, loader);
+        scheduleDetailCache.get(SCHEDULE_ID, loader);
+
+        // then
+        assertEquals(3, loadCount.get());
+        assertTrue(redis.get("schedule:detail:" + SCHEDULE_ID).contains("\"title\":\"title\""));
+    }
+
+    @Test
+    @DisplayName("작성자의 프로필이 바뀌면 작성자의 행사를 near-cache 와 Redis 에서 모두 지움")
+    void evictByOwner() {
+        // given - 작성자(10)의 행사 1, 2 와 다른 작성자의 행사 3
+        when(schedulerAdminRepository.findIdsByUserId(10L)).thenReturn(List.of(1L, 2L));
+        for (long id = 1; id <= 3; id++) scheduleDetailCache.get(id, loader);
+
+        // when
+        scheduleDetailCache.evictByOwnerAfterCommit(10L);
+        for (long id = 1; id <= 3; id++) scheduleDetailCache.get(id, loader);
+
+        // then
+        assertEquals(5, loadCount.get());
+        assertTrue(redis.containsKey("schedule:detail:3"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외 없이 DB 에서 읽고, 재시도 간격 동안 Redis 를 호출하지 않음")
+    void redisDown() {
+        // given
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        ScheduleDetailCache.Detail detail = scheduleDetailCache.get(SCHEDULE_ID, loader);
+        scheduleDetailCache.evict(SCHEDULE_ID);
+        scheduleDetailCache.get(SCHEDULE_ID, loader);
+
+        // then
+        assertEquals("title", detail.getTitle());
+        assertEquals(2, loadCount.get());
+        verify(redisTemplate, times(1)).opsForValue();
+    }
+
+    private static ScheduleDetailCache.Detail detail(Long id, String title) {
+        return ScheduleDetailCache.Detail.builder()
+                .id(id)
+                .scheduleStart(LocalDateTime.of(2023, 8, 1, 19, 0))
+                .scheduleEnd(LocalDateTime.of(2023, 8, 1, 21, 0))
+                .title(title)
+                .description("description")
+                .createdAt(LocalDateTime.of(2023, 7, 1, 0, 0))
+                .userId(10L)
+                .userEmail("encrypted-email")
+                .userFullName("encrypted-name")
+                .userSizeOfTicket(12)
+                .userRole(Role.ADMIN)
+                .userUpdatedAt(LocalDateTime.of(2023, 7, 2, 0, 0))
+                .build();
+    }
+}
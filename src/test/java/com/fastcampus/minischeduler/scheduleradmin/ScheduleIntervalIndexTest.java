@@ -0,0 +1,189 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ScheduleIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 8, 1, 0, 0);
+
+    private SchedulerAdminRepository schedulerAdminRepository;
+    private StringRedisTemplate redisTemplate;
+    private ScheduleIntervalIndex scheduleIntervalIndex;
+
+    @BeforeEach
+    void setUp() {
+        schedulerAdminRepository = mock(SchedulerAdminRepository.class);
+        when(schedulerAdminRepository.findAllIntervals()).thenReturn(List.of(interval(1L, 10L, BASE, BASE.plusDays(1))));
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        scheduleIntervalIndex = new ScheduleIntervalIndex(schedulerAdminRepository, redisTemplate);
+        scheduleIntervalIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("무작위 등록/수정/삭제 후에도 구간 조회 결과가 전체 탐색과 같음")
+    void overlappingMatchesBruteForce() {
+        // given
+        Random random = new Random(20231018L);
+        ScheduleIntervalIndex.Tree tree = new ScheduleIntervalIndex.Tree();
+        Map<Long, Row> rows = new HashMap<>();
+
+        for (int step = 0; step < 5000; step++) {
+            // when - 좁은 범위의 id 로 등록, 수정(같은 id 재등록), 삭제를 섞어서 반영
+            long id = 1 + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                rows.remove(id);
+            } else {
+                Row row = randomRow(random);
+                tree.put(id, row.userId, row.start, row.end);
+                rows.put(id, row);
+            }
+
+            // then - 시작/종료 경계가 겹치도록 같은 시간 단위로 조회
+            LocalDateTime from = BASE.plusHours(random.nextInt(24 * 30));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24 * 7));
+            Long userId = random.nextBoolean() ? null : (long) (1 + random.nextInt(5));
+
+            assertEquals(bruteForce(rows, userId, from, to), tree.overlapping(userId, from, to), from + " ~ " + to);
+            assertEquals(rows.size(), tree.size());
+        }
+    }
+
+    @Test
+    @DisplayName("종료 시각이 조회 시작과 같은 일정은 제외하고, 종료일이 없는 일정은 시작 시각으로 판단")
+    void halfOpenBoundary() {
+        // given
+        ScheduleIntervalIndex.Tree tree = new ScheduleIntervalIndex.Tree();
+        tree.put(1L, 1L, BASE.minusHours(1), BASE);                // 조회 시작에 끝남
+        tree.put(2L, 1L, BASE, null);                              // 조회 시작 시각에만 존재
+        tree.put(3L, 1L, BASE.minusHours(1), null);                // 조회 시작 전에만 존재
+        tree.put(4L, 1L, BASE.plusHours(1), BASE.plusHours(2));    // 조회 끝에 시작함
+        tree.put(5L, 1L, BASE.minusHours(1), BASE.plusMinutes(1)); // 조회 시작 후에 끝남
+
+        // when
+        List<Long> ids = tree.overlapping(null, BASE, BASE.plusHours(1));
+
+        // then
+        assertEquals(List.of(5L, 2L), ids);
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 반영 후 Redis 채널로 알림")
+    void publishOnChange() {
+        // given
+        SchedulerAdmin schedulerAdmin = mock(SchedulerAdmin.class, RETURNS_DEEP_STUBS);
+        when(schedulerAdmin.getId()).thenReturn(2L);
+        when(schedulerAdmin.getUser().getId()).thenReturn(20L);
+        when(schedulerAdmin.getScheduleStart()).thenReturn(BASE.plusDays(3));
+
+        // when - 트랜잭션 밖이므로 바로 반영
+        scheduleIntervalIndex.putAfterCommit(schedulerAdmin);
+        scheduleIntervalIndex.removeAfterCommit(1L);
+
+        // then
+        assertEquals(List.of(2L), scheduleIntervalIndex.findOverlapping(BASE, BASE.plusMonths(1)));
+        verify(redisTemplate).convertAndSend(eq(ScheduleIntervalIndex.CHANNEL), endsWith(":2"));
+        verify(redisTemplate).convertAndSend(eq(ScheduleIntervalIndex.CHANNEL), endsWith(":1"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 알림을 받으면 일정을 DB 에서 다시 읽어 반영하고, 자신의 알림은 무시")
+    void refreshOnMessage() {
+        // given
+        when(schedulerAdminRepository.findIntervalById(2L))
+                .thenReturn(Optional.of(interval(2L, 20L, BASE.plusDays(3), BASE.plusDays(4))));
+        when(schedulerAdminRepository.findIntervalById(1L)).thenReturn(Optional.empty());
+
+        // when
+        scheduleIntervalIndex.onMessage(message("other-instance:2"), null);
+        scheduleIntervalIndex.onMessage(message("other-instance:1"), null);
+
+        // then
+        assertEquals(List.of(2L), scheduleIntervalIndex.findOverlapping(BASE, BASE.plusMonths(1)));
+
+        // when - 자신이 보낸 알림
+        scheduleIntervalIndex.removeAfterCommit(2L);
+        clearInvocations(schedulerAdminRepository);
+        scheduleIntervalIndex.onMessage(message(lastPublished()), null);
+
+        // then
+        verify(schedulerAdminRepository, never()).findIntervalById(anyLong());
+    }
+
+    private String lastPublished() {
+        List<String> messages = mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("convertAndSend"))
+                .map(invocation -> invocation.<String>getArgument(1))
+                .collect(Collectors.toList());
+        return messages.get(messages.size() - 1);
+    }
+
+    private static List<Long> bruteForce(Map<Long, Row> rows, Long userId, LocalDateTime from, LocalDateTime to) {
+        // SchedulerAdminRepository.findAllOverlapping 과 같은 조건
+        return rows.entrySet().stream()
+                .filter(entry -> userId == null || userId.equals(entry.getValue().userId))
+                .filter(entry -> {
+                    Row row = entry.getValue();
+                    return (!row.start.isBefore(from) && row.start.isBefore(to))
+                            || (row.start.isBefore(from) && row.end != null && row.end.isAfter(from));
+                })
+                .sorted(Comparator.comparing((Map.Entry<Long, Row> entry) -> entry.getValue().start)
+                        .thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static Row randomRow(Random random) {
+        LocalDateTime start = BASE.plusHours(random.nextInt(24 * 40) - 24 * 5);
+        int kind = random.nextInt(5);
+        LocalDateTime end = kind == 0 ? null                                   // 종료일 없음
+                : kind == 1 ? start                                            // 길이 0
+                : start.plusHours(1 + random.nextInt(kind == 4 ? 24 * 60 : 48)); // 짧은 일정, 여러 달 일정
+        return new Row((long) (1 + random.nextInt(5)), start, end);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                ScheduleIntervalIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static ScheduleIntervalIndex.Interval interval(Long id, Long userId, LocalDateTime start, LocalDateTime end) {
+        return new ScheduleIntervalIndex.Interval() {
+            @Override public Long getId() { return id; }
+            @Override public Long getUserId() { return userId; }
+            @Override public LocalDateTime getScheduleStart() { return start; }
+            @Override public LocalDateTime getScheduleEnd() { return end; }
+        };
+    }
+
+    private static final class Row {
+
+        private final Long userId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private Row(Long userId, LocalDateTime start, LocalDateTime end) {
+            this.userId = userId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+class SchedulerAdminPagingTest {
+
+    private static final int PAGE_SIZE = 4;
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 8, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2023, 9, 1, 0, 0);
+
+    // 같은 시작 시각이 여러 번 나오도록 몇 개의 시각만 돌려 씀 (7월 말 ~ 9월 초)
+    private static final LocalDateTime[] STARTS = {
+            LocalDateTime.of(2023, 8, 10, 18, 0),
+            LocalDateTime.of(2023, 7, 30, 12, 0),
+            LocalDateTime.of(2023, 8, 1, 0, 0),
+            LocalDateTime.of(2023, 9, 2, 9, 0),
+            LocalDateTime.of(2023, 8, 10, 18, 0),
+            LocalDateTime.of(2023, 8, 31, 23, 0)
+    };
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private SchedulerAdminRepository schedulerAdminRepository;
+
+    private User agency;
+    private List<SchedulerAdmin> schedules;
+
+    @BeforeEach
+    void setUp() {
+        agency = testEntityManager.persist(agency("agency@test.com"));
+        User otherAgency = testEntityManager.persist(agency("other@test.com"));
+
+        schedules = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            LocalDateTime start = STARTS[i % STARTS.length];
+            schedules.add(testEntityManager.persist(SchedulerAdmin.builder()
+                    .user(i % 3 == 0 ? otherAgency : agency)
+                    .scheduleStart(start)
+                    .scheduleEnd(i % 5 == 0 ? null : start.plusDays(3)) // 7월 30일 시작 일정 일부는 8월까지 이어짐
+                    .title("schedule" + i)
+                    .description("description")
+                    .build()));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("전체 일정 : 시작 시각이 같은 일정이 페이지 경계에 걸려도 (시작일, id) 순으로 한 번씩 조회")
+    void findPageAfter() {
+        List<Long> read = readAll((after, limit) ->
+                schedulerAdminRepository.findPageAfter(after.getScheduleStart(), after.getId(), limit));
+
+        assertEquals(expected(schedule -> true), read);
+    }
+
+    @Test
+    @DisplayName("월별 일정 : 8월과 겹치는 일정만 (시작일, id) 순으로 한 번씩 조회")
+    void findPageOverlappingAfter() {
+        List<Long> read = readAll((after, limit) -> schedulerAdminRepository.findPageOverlappingAfter(
+                FROM, TO, after.getScheduleStart(), after.getId(), limit));
+
+        assertEquals(expected(this::overlapsAugust), read);
+    }
+
+    @Test
+    @DisplayName("기획사 일정 : 해당 기획사의 일정만 (시작일, id) 순으로 한 번씩 조회")
+    void findPageByUserIdAfter() {
+        List<Long> read = readAll((after, limit) -> schedulerAdminRepository.findPageByUserIdAfter(
+                agency.getId(), after.getScheduleStart(), after.getId(), limit));
+
+        assertEquals(expected(this::ownedByAgency), read);
+    }
+
+    @Test
+    @DisplayName("기획사 월별 일정 : 해당 기획사의 8월과 겹치는 일정만 (시작일, id) 순으로 한 번씩 조회")
+    void findPageByUserIdOverlappingAfter() {
+        List<Long> read = readAll((after, limit) -> schedulerAdminRepository.findPageByUserIdOverlappingAfter(
+                agency.getId(), FROM, TO, after.getScheduleStart(), after.getId(), limit));
+
+        assertEquals(expected(schedule -> ownedByAgency(schedule) && overlapsAugust(schedule)), read);
+    }
+
+    /**
+     * 서비스와 같은 방식(size + 1 조회, 마지막 일정으로 커서 생성)으로 next 가 null 이 될 때까지 읽습니다.
+     * 커서는 매번 문자열로 인코딩했다가 다시 해석합니다.
+     */
+    private List<Long> readAll(BiFunction<ScheduleCursor, Pageable, List<SchedulerAdmin>> query) {
+
+        List<Long> read = new ArrayList<>();
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1);
+        String next = null;
+        int pages = 0;
+        do {
+            List<SchedulerAdmin> schedulers = query.apply(ScheduleCursor.decode(next), limit);
+            boolean hasNext = schedulers.size() > PAGE_SIZE;
+            List<SchedulerAdmin> page = hasNext ? schedulers.subList(0, PAGE_SIZE) : schedulers;
+
+            page.forEach(schedule -> read.add(schedule.getId()));
+            next = hasNext ? ScheduleCursor.of(page.get(page.size() - 1)).encode() : null;
+            assertTrue(++pages <= schedules.size(), "paging does not terminate");
+        } while (next != null);
+
+        return read;
+    }
+
+    private List<Long> expected(Predicate<SchedulerAdmin> filter) {
+        return schedules.stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(SchedulerAdmin::getScheduleStart).thenComparing(SchedulerAdmin::getId))
+                .map(SchedulerAdmin::getId)
+                .collect(Collectors.toList());
+    }
+
+    private boolean ownedByAgency(SchedulerAdmin schedule) {
+        return schedule.getUser().getId().equals(agency.getId());
+    }
+
+    private boolean overlapsAugust(SchedulerAdmin schedule) {
+        LocalDateTime start = schedule.getScheduleStart();
+        LocalDateTime end = schedule.getScheduleEnd();
+        return (!start.isBefore(FROM) && start.isBefore(TO))
+                || (start.isBefore(FROM) && end != null && end.isAfter(FROM));
+    }
+
+    private static User agency(String email) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(Role.ADMIN)
+                .fullName(email)
+                .sizeOfTicket(12)
+                .build();
+    }
+}
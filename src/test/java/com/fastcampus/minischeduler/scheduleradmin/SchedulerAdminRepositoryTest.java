@@ -0,0 +1,119 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.user.Role;
+import com.fastcampus.minischeduler.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SchedulerAdminRepositoryTest {
+
+    private static final int AGENCY_COUNT = 50;
+    private static final int SCHEDULE_COUNT = 1000;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private SchedulerAdminRepository schedulerAdminRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<User> agencies = new ArrayList<>();
+        for (int i = 0; i < AGENCY_COUNT; i++) {
+            agencies.add(testEntityManager.persist(User.builder()
+                    .email("agency" + i + "@test.com")
+                    .password("password")
+                    .role(Role.ADMIN)
+                    .fullName("agency" + i)
+                    .sizeOfTicket(12)
+                    .build()));
+        }
+
+        LocalDateTime start = LocalDateTime.of(2023, 8, 1, 0, 0);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            testEntityManager.persist(SchedulerAdmin.builder()
+                    .user(agencies.get(i % AGENCY_COUNT))
+                    .scheduleStart(start.plusHours(i))
+                    .scheduleEnd(start.plusHours(i + 1))
+                    .title("schedule" + i)
+                    .description("description")
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 일정 조회 시 작성자까지 한 번의 쿼리로 조회")
+    void findAllWithUser() {
+        // given - 50개 기획사의 일정 1,000건
+
+        // when
+        List<SchedulerAdmin> schedulers = schedulerAdminRepository.findAllWithUser();
+        schedulers.forEach(scheduler -> scheduler.getUser().getFullName());
+
+        // then
+        assertEquals(SCHEDULE_COUNT, schedulers.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("월별 일정 조회 시 작성자까지 한 번의 쿼리로 조회")
+    void findAllOverlapping() {
+        // given - 2023년 8월에 시작하는 일정 744건
+
+        // when
+        List<SchedulerAdmin> schedulers = schedulerAdminRepository.findAllOverlapping(
+                LocalDateTime.of(2023, 8, 1, 0, 0),
+                LocalDateTime.of(2023, 9, 1, 0, 0)
+        );
+        schedulers.forEach(scheduler -> scheduler.getUser().getFullName());
+
+        // then
+        assertEquals(744, schedulers.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("조회 시작 시각에 끝나는 일정은 월별 조회에서 제외")
+    void findAllOverlappingExcludesEndAtFrom() {
+        // given - 8월 1일 00:00 ~ 01:00 일정은 01:00 에 끝남
+
+        // when
+        List<SchedulerAdmin> schedulers = schedulerAdminRepository.findAllOverlapping(
+                LocalDateTime.of(2023, 8, 1, 1, 0),
+                LocalDateTime.of(2023, 9, 1, 0, 0)
+        );
+
+        // then
+        assertEquals(743, schedulers.size());
+        assertEquals(LocalDateTime.of(2023, 8, 1, 1, 0), schedulers.get(0).getScheduleStart());
+    }
+}
@@ -0,0 +1,205 @@
+package com.fastcampus.minischeduler.scheduleradmin;
+
+import com.fastcampus.minischeduler.core.exception.Exception400;
+import com.fastcampus.minischeduler.core.exception.Exception412;
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.image.ImageService;
+import com.fastcampus.minischeduler.scheduleruser.Progress;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRepository;
+import com.fastcampus.minischeduler.user.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.servlet.http.HttpServletResponse;
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 각자 커밋해야 하므로 테스트 트랜잭션을 쓰지 않음
+class SchedulerAdminServiceTest {
+
+    private static final int INITIAL_TICKETS = 11;
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private AgencyProgressCountRepository agencyProgressCountRepository;
+
+    @Autowired
+    private EventProgressCountRepository eventProgressCountRepository;
+
+    @Autowired
+    private SchedulerAdminRepository schedulerAdminRepository;
+
+    @Autowired
+    private SchedulerUserRepository schedulerUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ProgressCountService progressCountService;
+    private SchedulerAdminService schedulerAdminService;
+    private User agency;
+    private User fan;
+    private Long ticketId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        progressCountService = new ProgressCountService(
+                agencyProgressCountRepository,
+                eventProgressCountRepository,
+                schedulerAdminRepository,
+                transactionManager
+        );
+        progressCountService.init();
+        schedulerAdminService = new SchedulerAdminService(
+                mock(HttpServletResponse.class),
+                mock(ImageService.class),
+                mock(UserNameIndexService.class),
+                schedulerAdminRepository,
+                mock(ScheduleIntervalIndex.class),
+                mock(ScheduleDetailCache.class),
+                progressCountService,
+                schedulerUserRepository,
+                userRepository,
+                mock(AES256Utils.class),
+                mock(UserIdentityCache.class)
+        );
+
+        agency = userRepository.save(user("agency@test.com", Role.ADMIN));
+        fan = userRepository.save(user("fan@test.com", Role.USER));
+        SchedulerAdmin event = schedulerAdminRepository.save(SchedulerAdmin.builder()
+                .user(agency)
+                .scheduleStart(LocalDateTime.of(2023, 8, 1, 0, 0))
+                .scheduleEnd(LocalDateTime.of(2023, 9, 30, 0, 0))
+                .title("event")
+                .description("description")
+                .build());
+        ticketId = schedulerUserRepository.save(SchedulerUser.builder()
+                .user(fan)
+                .schedulerAdmin(event)
+                .scheduleStart(LocalDateTime.of(2023, 8, 10, 18, 0))
+                .progress(Progress.WAITING)
+                .build()).getId();
+        progressCountService.getAgencyCount(agency.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerUserRepository.deleteAll();
+        eventProgressCountRepository.deleteAll();
+        agencyProgressCountRepository.deleteAll();
+        schedulerAdminRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("단건 결재는 팬의 티켓 수와 카운터를 UPDATE 로 반영하고, 다시 결재하면 412")
+    void confirmSchedule() {
+        // when
+        confirm(agency, Progress.REFUSE);
+
+        // then
+        assertEquals(Progress.REFUSE, schedulerUserRepository.findById(ticketId).orElseThrow().getProgress());
+        assertEquals(INITIAL_TICKETS + 1, userRepository.findById(fan.getId()).orElseThrow().getSizeOfTicket());
+        assertEquals(1, progressCountService.getAgencyCount(agency.getId()).getRefused());
+        assertThrows(Exception412.class, () -> confirm(agency, Progress.ACCEPT));
+    }
+
+    @Test
+    @DisplayName("다른 기획사의 티켓은 결재할 수 없음")
+    void confirmScheduleOfOtherAgency() {
+        // given
+        User otherAgency = userRepository.save(user("other@test.com", Role.ADMIN));
+
+        // when, then
+        assertThrows(Exception400.class, () -> confirm(otherAgency, Progress.ACCEPT));
+        assertEquals(Progress.WAITING, schedulerUserRepository.findById(ticketId).orElseThrow().getProgress());
+    }
+
+    @Test
+    @DisplayName("같은 티켓을 동시에 승인/거절해도 한 번만 반영됨")
+    void confirmScheduleConcurrently() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Progress progress = i % 2 == 0 ? Progress.ACCEPT : Progress.REFUSE;
+            futures.add(executorService.submit(() -> {
+                ready.await();
+                try {
+                    confirm(agency, progress);
+                    return true;
+                } catch (Exception412 e) {
+                    return false;
+                }
+            }));
+        }
+        ready.countDown();
+        int confirmed = 0;
+        for (Future<Boolean> future : futures) if (future.get(30, TimeUnit.SECONDS)) confirmed++;
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, confirmed);
+        User result = userRepository.findById(fan.getId()).orElseThrow();
+        SchedulerAdminResponse.ImplCountProcessDTO count = progressCountService.getAgencyCount(agency.getId());
+        if (schedulerUserRepository.findById(ticketId).orElseThrow().getProgress() == Progress.ACCEPT) {
+            assertEquals(1, result.getUsedTicket());
+            assertEquals(INITIAL_TICKETS, result.getSizeOfTicket());
+        } else {
+            assertEquals(0, result.getUsedTicket());
+            assertEquals(INITIAL_TICKETS + 1, result.getSizeOfTicket());
+        }
+        assertEquals(0, count.getWaiting());
+        assertEquals(1, count.getAccepted() + count.getRefused());
+    }
+
+    private void confirm(User agency, Progress progress) {
+        UserResponse.UserDto loginUser = UserResponse.UserDto.builder().id(agency.getId()).build();
+        transactionTemplate.execute(status -> {
+            try {
+                return schedulerAdminService.confirmSchedule(ticketId, progress, loginUser);
+            } catch (GeneralSecurityException gse) {
+                throw new IllegalStateException(gse);
+            }
+        });
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .fullName(email)
+                .sizeOfTicket(INITIAL_TICKETS)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.fastcampus.minischeduler.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 초기화 작업이 범위마다 커밋하므로 테스트 트랜잭션을 쓰지 않음
+class TicketResetServiceTest {
+
+    private static final int YEAR = 2024;
+    private static final int FAN_COUNT = 7;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketResetJobRepository ticketResetJobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private TicketResetService ticketResetService;
+    private List<Long> fanIds;
+    private Long agencyId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ticketResetService = new TicketResetService(userRepository, ticketResetJobRepository, transactionTemplate);
+        ReflectionTestUtils.setField(ticketResetService, "chunkSize", 2); // 여러 범위로 나뉘도록
+
+        fanIds = new ArrayList<>();
+        for (int i = 0; i < FAN_COUNT; i++) fanIds.add(userRepository.save(user("fan" + i + "@test.com", Role.USER)).getId());
+        agencyId = userRepository.save(user("agency@test.com", Role.ADMIN)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketResetJobRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 작업은 체크포인트(lastUserId) 다음 사용자부터 이어서 초기화함")
+    void resumeFromLastUserId() {
+        // given - 앞의 3명까지 커밋된 채로 멈춘 작업
+        Long lastUserId = fanIds.get(2);
+        ticketResetJobRepository.save(job(lastUserId, 3L));
+
+        // when
+        ticketResetService.reset(YEAR);
+
+        // then - 체크포인트 이전 팬은 다시 초기화하지 않음
+        for (int i = 0; i < FAN_COUNT; i++)
+            assertEquals(i <= 2 ? 0 : TicketResetService.TICKETS_PER_YEAR, ticketsOf(fanIds.get(i)), "fan" + i);
+        assertEquals(0, ticketsOf(agencyId));
+
+        TicketResetJob job = ticketResetJobRepository.findByResetYear(YEAR).orElseThrow();
+        assertTrue(job.isFinished());
+        assertEquals(job.getMaxUserId(), job.getLastUserId());
+        assertEquals(FAN_COUNT, job.getUpdatedCount());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 이미 옮겨졌다면 해당 범위의 초기화를 롤백함")
+    void rollbackChunkWhenCheckpointAdvanced() {
+        // given - 다른 인스턴스가 (0, fan1] 범위를 먼저 커밋함
+        Long jobId = ticketResetJobRepository.save(job(0L, 0L)).getId();
+        Long to = fanIds.get(1);
+        transactionTemplate.executeWithoutResult(status -> ticketResetJobRepository.advance(jobId, 0L, to, 2));
+
+        // when - 같은 범위를 뒤늦게 처리
+        Integer count = ReflectionTestUtils.invokeMethod(ticketResetService, "resetChunk", jobId, 0L, (long) to);
+
+        // then
+        assertNull(count);
+        assertEquals(0, ticketsOf(fanIds.get(0)));
+        assertEquals(0, ticketsOf(fanIds.get(1)));
+
+        TicketResetJob job = ticketResetJobRepository.findById(jobId).orElseThrow();
+        assertEquals(to, job.getLastUserId());
+        assertEquals(2, job.getUpdatedCount());
+    }
+
+    @Test
+    @DisplayName("끝난 작업은 다시 실행해도 아무것도 하지 않음")
+    void finishedJobIsNotRerun() {
+        // given
+        ticketResetService.reset(YEAR);
+        transactionTemplate.executeWithoutResult(status -> fanIds.forEach(userRepository::decreaseTicket));
+
+        // when
+        ticketResetService.reset(YEAR);
+
+        // then
+        for (Long fanId : fanIds) assertEquals(TicketResetService.TICKETS_PER_YEAR - 1, ticketsOf(fanId));
+    }
+
+    private int ticketsOf(Long userId) {
+        return userRepository.findById(userId).orElseThrow().getSizeOfTicket();
+    }
+
+    private TicketResetJob job(Long lastUserId, Long updatedCount) {
+        return TicketResetJob.builder()
+                .resetYear(YEAR)
+                .lastUserId(lastUserId)
+                .maxUserId(agencyId)
+                .updatedCount(updatedCount)
+                .startedAt(LocalDateTime.of(YEAR, 1, 1, 0, 0))
+                .build();
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .fullName(email)
+                .sizeOfTicket(0)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserIdentityCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime VERSION = LocalDateTime.of(2023, 8, 1, 10, 0);
+
+    private AES256Utils aes256Utils;
+    private UserIdentityCache userIdentityCache;
+
+    @BeforeEach
+    void setUp() throws GeneralSecurityException {
+        // "enc:" 를 떼는 것으로 복호화를 대신함
+        aes256Utils = mock(AES256Utils.class);
+        when(aes256Utils.decryptAES256(anyString()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).substring("enc:".length()));
+
+        userIdentityCache = new UserIdentityCache(aes256Utils);
+        ReflectionTestUtils.setField(userIdentityCache, "maxSize", 100);
+        userIdentityCache.init();
+    }
+
+    @Test
+    @DisplayName("updatedAt 이 같으면 다시 복호화하지 않음")
+    void sameVersionIsCached() throws GeneralSecurityException {
+        // when
+        UserIdentityCache.Identity first = userIdentityCache.get(USER_ID, VERSION, "enc:name", "enc:email");
+        UserIdentityCache.Identity second = userIdentityCache.get(USER_ID, VERSION, "enc:name", "enc:email");
+
+        // then
+        assertSame(first, second);
+        assertEquals("name", second.getFullName());
+        verify(aes256Utils, times(2)).decryptAES256(anyString());
+    }
+
+    @Test
+    @DisplayName("updatedAt 이 바뀌면 새 값으로 다시 복호화함")
+    void changedVersionIsDecryptedAgain() throws GeneralSecurityException {
+        // given
+        userIdentityCache.get(USER_ID, VERSION, "enc:name", "enc:email");
+
+        // when - 이름을 바꾸어 updatedAt 이 바뀜
+        UserIdentityCache.Identity updated = userIdentityCache.get(USER_ID, VERSION.plusSeconds(1), "enc:new-name", "enc:email");
+        UserIdentityCache.Identity again = userIdentityCache.get(USER_ID, VERSION.plusSeconds(1), "enc:new-name", "enc:email");
+
+        // then
+        assertEquals("new-name", updated.getFullName());
+        assertEquals(VERSION.plusSeconds(1), updated.getVersion());
+        assertSame(updated, again);
+        verify(aes256Utils, times(4)).decryptAES256(anyString());
+    }
+
+    @Test
+    @DisplayName("evict 하면 같은 updatedAt 이어도 다시 복호화함")
+    void evict() throws GeneralSecurityException {
+        // given
+        UserIdentityCache.Identity cached = userIdentityCache.get(USER_ID, VERSION, "enc:name", "enc:email");
+
+        // when
+        userIdentityCache.evict(USER_ID);
+        UserIdentityCache.Identity reloaded = userIdentityCache.get(USER_ID, VERSION, "enc:name", "enc:email");
+
+        // then
+        assertNotSame(cached, reloaded);
+        verify(aes256Utils, times(4)).decryptAES256(anyString());
+    }
+}
@@ -0,0 +1,116 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.core.utils.AES256Utils;
+import com.fastcampus.minischeduler.core.utils.BlindIndexUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 백필 작업이 범위마다 커밋하므로 테스트 트랜잭션을 쓰지 않음
+class UserNameTokenRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserNameTokenRepository userNameTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BlindIndexUtils blindIndexUtils;
+    private UserNameIndexBackfillJob backfillJob;
+    private Long hongId;
+    private Long kimId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blindIndexUtils = new BlindIndexUtils();
+        ReflectionTestUtils.setField(blindIndexUtils, "key", "blind-index-test-key");
+        blindIndexUtils.init();
+
+        AES256Utils aes256Utils = new AES256Utils();
+        ReflectionTestUtils.setField(aes256Utils, "key", "abcdefghijklmnopqrstuvwxyz012345");
+        ReflectionTestUtils.setField(aes256Utils, "iv", "0123456789abcdef");
+        aes256Utils.setAlg("AES/CBC/PKCS5Padding");
+        aes256Utils.init();
+
+        hongId = userRepository.save(user("hong@test.com", aes256Utils.encryptAES256("홍길동"))).getId();
+        kimId = userRepository.save(user("kim@test.com", aes256Utils.encryptAES256("Kim Gildong"))).getId();
+        userRepository.save(user("lee@test.com", aes256Utils.encryptAES256("이순신")));
+
+        backfillJob = new UserNameIndexBackfillJob(
+                userRepository, userNameTokenRepository, blindIndexUtils, aes256Utils, new TransactionTemplate(transactionManager)
+        );
+        ReflectionTestUtils.setField(backfillJob, "chunkSize", 2); // 여러 범위로 나뉘도록
+    }
+
+    @AfterEach
+    void tearDown() {
+        userNameTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("백필 후 이름의 일부로 검색하면 해당 사용자만 후보로 조회됨")
+    void searchByPartialName() {
+        // given
+        backfillJob.run();
+
+        // when, then
+        assertEquals(List.of(hongId), search("길동"));
+        assertEquals(List.of(hongId), search("홍"));
+        assertEquals(List.of(kimId), search("gild"));
+        assertEquals(List.of(), search("길순"));
+    }
+
+    @Test
+    @DisplayName("백필을 다시 실행하면 토큰이 없는 사용자만 채우고 중복 저장하지 않음")
+    void backfillIsIdempotent() {
+        // given
+        long indexed = backfillJob.run();
+        long tokenCount = userNameTokenRepository.count();
+
+        // when
+        long reindexed = backfillJob.run();
+
+        // then
+        assertEquals(3, indexed);
+        assertEquals(0, reindexed);
+        assertEquals(tokenCount, userNameTokenRepository.count());
+    }
+
+    private List<Long> search(String keyword) {
+        Set<String> tokens = blindIndexUtils.queryTokensOf(keyword);
+        return userNameTokenRepository.findUserIdsHavingAllTokens(tokens, tokens.size());
+    }
+
+    private static User user(String email, String encryptedFullName) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(Role.ADMIN)
+                .fullName(encryptedFullName)
+                .sizeOfTicket(0)
+                .build();
+    }
+}
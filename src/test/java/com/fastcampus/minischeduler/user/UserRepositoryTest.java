@@ -0,0 +1,186 @@
+package com.fastcampus.minischeduler.user;
+
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdmin;
+import com.fastcampus.minischeduler.scheduleradmin.SchedulerAdminRepository;
+import com.fastcampus.minischeduler.scheduleruser.Progress;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUser;
+import com.fastcampus.minischeduler.scheduleruser.SchedulerUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 각자 커밋해야 하므로 테스트 트랜잭션을 쓰지 않음
+class UserRepositoryTest {
+
+    private static final int INITIAL_TICKETS = 12;
+    private static final int THREAD_COUNT = 8;
+    private static final int REQUEST_COUNT = 100;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchedulerAdminRepository schedulerAdminRepository;
+
+    @Autowired
+    private SchedulerUserRepository schedulerUserRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        userId = userRepository.save(user("fan@test.com", Role.USER)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerUserRepository.deleteAll();
+        schedulerAdminRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시에 티켓을 차감해도 남은 티켓 수만큼만 성공하고 음수가 되지 않음")
+    void decreaseTicketConcurrently() throws Exception {
+        // given - 티켓 12장, 8개 스레드에서 100번 신청
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.await();
+                Integer updated = transactionTemplate.execute(status -> userRepository.decreaseTicket(userId));
+                if (updated != null && updated == 1) succeeded.incrementAndGet();
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        int remaining = userRepository.findById(userId).orElseThrow().getSizeOfTicket();
+        assertEquals(INITIAL_TICKETS, succeeded.get());
+        assertEquals(0, remaining);
+    }
+
+    @Test
+    @DisplayName("티켓 차감과 반환이 동시에 일어나도 갱신이 유실되지 않음")
+    void decreaseAndIncreaseTicketConcurrently() throws Exception {
+        // given - 티켓 12장, 차감 성공 건마다 반환
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger decreased = new AtomicInteger();
+        AtomicInteger increased = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.await();
+                Integer updated = transactionTemplate.execute(status -> userRepository.decreaseTicket(userId));
+                if (updated != null && updated == 1) {
+                    decreased.incrementAndGet();
+                    transactionTemplate.execute(status -> userRepository.increaseTicket(userId));
+                    increased.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        int remaining = userRepository.findById(userId).orElseThrow().getSizeOfTicket();
+        assertEquals(decreased.get(), increased.get());
+        assertEquals(INITIAL_TICKETS, remaining);
+    }
+
+    @Test
+    @DisplayName("일정 삭제 시 거절되지 않은 신청 건수만큼 해당 일정의 신청자에게만 티켓을 되돌려줌")
+    void refundTicketsBySchedulerAdminId() {
+        // given - fan : 승인 1건 + 대기 1건, refused : 거절 1건, other : 다른 일정 1건
+        User agency = userRepository.save(user("agency@test.com", Role.ADMIN));
+        User refused = userRepository.save(user("refused@test.com", Role.USER));
+        User other = userRepository.save(user("other@test.com", Role.USER));
+        User fan = userRepository.findById(userId).orElseThrow();
+
+        SchedulerAdmin event = schedulerAdminRepository.save(event(agency));
+        SchedulerAdmin otherEvent = schedulerAdminRepository.save(event(agency));
+
+        LocalDateTime august = LocalDateTime.of(2023, 8, 10, 18, 0);
+        schedulerUserRepository.save(ticket(fan, event, august, Progress.ACCEPT));
+        schedulerUserRepository.save(ticket(fan, event, august.plusMonths(1), Progress.WAITING));
+        schedulerUserRepository.save(ticket(refused, event, august, Progress.REFUSE));
+        schedulerUserRepository.save(ticket(other, otherEvent, august, Progress.WAITING));
+
+        // when
+        Integer updated = transactionTemplate.execute(status -> userRepository.refundTicketsBySchedulerAdminId(event.getId()));
+
+        // then
+        assertEquals(1, updated);
+        assertEquals(INITIAL_TICKETS + 2, userRepository.findById(fan.getId()).orElseThrow().getSizeOfTicket());
+        assertEquals(INITIAL_TICKETS, userRepository.findById(refused.getId()).orElseThrow().getSizeOfTicket());
+        assertEquals(INITIAL_TICKETS, userRepository.findById(other.getId()).orElseThrow().getSizeOfTicket());
+        assertEquals(INITIAL_TICKETS, userRepository.findById(agency.getId()).orElseThrow().getSizeOfTicket());
+    }
+
+    private static User user(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .role(role)
+                .fullName(email)
+                .sizeOfTicket(INITIAL_TICKETS)
+                .build();
+    }
+
+    private static SchedulerAdmin event(User agency) {
+        return SchedulerAdmin.builder()
+                .user(agency)
+                .scheduleStart(LocalDateTime.of(2023, 8, 1, 0, 0))
+                .scheduleEnd(LocalDateTime.of(2023, 9, 30, 0, 0))
+                .title("event")
+                .description("description")
+                .build();
+    }
+
+    private static SchedulerUser ticket(User fan, SchedulerAdmin event, LocalDateTime scheduleStart, Progress progress) {
+        return SchedulerUser.builder()
+                .user(fan)
+                .schedulerAdmin(event)
+                .scheduleStart(scheduleStart)
+                .progress(progress)
+                .build();
+    }
+}